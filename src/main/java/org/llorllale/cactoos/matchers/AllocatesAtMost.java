@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a {@link Func} allocates at most some bytes of
+ * heap memory per invocation.
+ *
+ * <p>The {@link Func} is invoked in the current thread, first to warm up,
+ * so that the JIT compiler gets to eliminate the allocations it can, and
+ * then a number of times more, while the bytes the thread allocates are
+ * counted by {@code com.sun.management.ThreadMXBean}. Its results are
+ * consumed by a {@link Blackhole}. Fractions of a byte per invocation,
+ * e.g. due to a single allocation of the JVM during the whole run, do
+ * not count. Each {@link Func} is measured once per match, and the
+ * mismatch of that run is reused to describe it.</p>
+ *
+ * <p>Here is an example how {@link AllocatesAtMost} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not allocate on the hot path",
+ *      (Func<long[], Long>) array -> new Sum(array).value(),
+ *      new AllocatesAtMost<>(new long[]{1L, 2L, 3L}, 0L)
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>A {@link org.cactoos.Scalar} can be checked too, by turning it into
+ * a {@link Func} with {@link org.cactoos.func.FuncOf}.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class AllocatesAtMost<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Budget in bytes per invocation.
+     */
+    private final long budget;
+
+    /**
+     * Invocations to warm up.
+     */
+    private final int warmup;
+
+    /**
+     * Measured invocations.
+     */
+    private final int iterations;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param bytes Budget in bytes per invocation
+     */
+    public AllocatesAtMost(final T object, final long bytes) {
+        // @checkstyle MagicNumber (1 line)
+        this(object, bytes, 20_000, 10_000);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param bytes Budget in bytes per invocation
+     * @param warmup Invocations to warm up
+     * @param iterations Measured invocations
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AllocatesAtMost(
+        final T object, final long bytes, final int warmup,
+        final int iterations
+    ) {
+        super();
+        this.input = object;
+        this.budget = bytes;
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.verdicts = new Verdicts<>(this::counted);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("allocates at most ")
+            .appendValue(this.budget)
+            .appendText(" bytes per call");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Count the bytes allocated by the func and check them.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether they fit the budget
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean counted(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final long total;
+        try {
+            total = this.allocated(func);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        final long calls = Math.max(1L, this.iterations);
+        final boolean matches = total / calls <= this.budget;
+        if (!matches) {
+            desc.appendText("allocated ")
+                .appendText(
+                    String.format(
+                        Locale.ENGLISH, "%.1f", (double) total / calls
+                    )
+                )
+                .appendText(" bytes per call, ")
+                .appendValue(total)
+                .appendText(" bytes in ")
+                .appendValue(this.iterations)
+                .appendText(" calls");
+        }
+        return matches;
+    }
+
+    /**
+     * Warm up and then count the bytes allocated by the measured
+     * invocations.
+     * @param func The func
+     * @return Bytes allocated
+     * @throws Exception If the func fails
+     */
+    private long allocated(final Func<? super T, ?> func) throws Exception {
+        final com.sun.management.ThreadMXBean threads =
+            AllocatesAtMost.mxbean();
+        final boolean enabled = threads.isThreadAllocatedMemoryEnabled();
+        if (!enabled) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        try {
+            final Blackhole sink = new Blackhole();
+            for (int idx = 0; idx < this.warmup; ++idx) {
+                sink.consume(func.apply(this.input));
+            }
+            final long thread = Thread.currentThread().getId();
+            final long before = threads.getThreadAllocatedBytes(thread);
+            for (int idx = 0; idx < this.iterations; ++idx) {
+                sink.consume(func.apply(this.input));
+            }
+            return threads.getThreadAllocatedBytes(thread) - before;
+        } finally {
+            if (!enabled) {
+                threads.setThreadAllocatedMemoryEnabled(false);
+            }
+        }
+    }
+
+    /**
+     * Thread management that counts allocated bytes.
+     * @return Thread management
+     */
+    private static com.sun.management.ThreadMXBean mxbean() {
+        final java.lang.management.ThreadMXBean threads =
+            ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) threads)
+                .isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException(
+                "Allocated bytes of threads are not counted by this JVM"
+            );
+        }
+        return (com.sun.management.ThreadMXBean) threads;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.nio.file.Path;
+
+/**
+ * Matcher to check that a measured figure, for which higher is better, e.g.
+ * throughput, is not more than a tolerance below its baseline.
+ *
+ * <p>The baseline is recorded in a local properties file, keyed by name,
+ * the first time the figure is measured, e.g. on the same machine class
+ * as subsequent runs, and every time while the system property
+ * {@code cactoos.matchers.baseline.update} is true.</p>
+ *
+ * <p>Here is an example how {@link AtLeastBaseline} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not get slower than the baseline by more than 10%",
+ *      map -> map.put("key", "value") != null || map.containsKey("key"),
+ *      new RunsInThreads<>(
+ *          new ConcurrentHashMap<>(), 64, 1000,
+ *          new HasThroughput(
+ *              new AtLeastBaseline(
+ *                  Paths.get("target/baseline.properties"), "map.put", 0.1
+ *              )
+ *          )
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class AtLeastBaseline extends MatcherEnvelope<Number> {
+
+    /**
+     * Ctor.
+     * @param file Baseline file
+     * @param key Name of the figure in the file
+     * @param tolerance Tolerated deviation from the baseline, as a
+     *  fraction of it (e.g. 0.1 for 10%)
+     */
+    public AtLeastBaseline(
+        final Path file, final String key, final double tolerance
+    ) {
+        super(new NearBaseline(new Baseline(file, key), tolerance, 1.0));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Measured figure recorded in a local baseline file.
+ *
+ * <p>The file is a properties file, with one figure per key, e.g. per
+ * assertion. A figure is recorded the first time it is measured, and
+ * again every time while the system property
+ * {@code cactoos.matchers.baseline.update} is true, so that a baseline
+ * can be updated on purpose, e.g. after an accepted slowdown or on a new
+ * machine class.</p>
+ *
+ * <p>The file is written to a temporary file next to it, which then
+ * replaces it atomically, so that readers, e.g. other JVMs running tests
+ * in parallel, never see a half-written file.</p>
+ *
+ * @since 1.0.0
+ */
+final class Baseline {
+
+    /**
+     * System property that turns on the update mode.
+     */
+    private static final String UPDATE = "cactoos.matchers.baseline.update";
+
+    /**
+     * Lock for all baseline files of this JVM.
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * Baseline file.
+     */
+    private final Path file;
+
+    /**
+     * Key of the figure.
+     */
+    private final String key;
+
+    /**
+     * Ctor.
+     * @param file Baseline file
+     * @param key Key of the figure
+     */
+    Baseline(final Path file, final String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * The baseline figure, recording the measured one first if there is
+     * none yet or in the update mode.
+     * @param measured Measured figure
+     * @return Baseline figure
+     */
+    double value(final double measured) {
+        synchronized (Baseline.LOCK) {
+            final Properties figures = this.figures();
+            final String recorded = figures.getProperty(this.key);
+            final double value;
+            if (recorded == null || Boolean.getBoolean(Baseline.UPDATE)) {
+                figures.setProperty(this.key, Double.toString(measured));
+                this.store(figures);
+                value = measured;
+            } else {
+                value = Double.parseDouble(recorded);
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("\"%s\" in %s", this.key, this.file);
+    }
+
+    /**
+     * All figures in the file.
+     * @return Figures, empty if there is no file yet
+     */
+    private Properties figures() {
+        final Properties figures = new Properties();
+        if (Files.exists(this.file)) {
+            try (InputStream input = Files.newInputStream(this.file)) {
+                figures.load(input);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return figures;
+    }
+
+    /**
+     * Write all figures to the file.
+     * @param figures Figures
+     */
+    private void store(final Properties figures) {
+        try {
+            final Path parent = this.file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            final Path temp = Files.createTempFile(
+                parent, this.file.getFileName().toString(), ".tmp"
+            );
+            try {
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    figures.store(output, "Performance baseline");
+                }
+                Files.move(
+                    temp, this.file, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING
+                );
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check how long a main class takes to become ready in a JVM
+ * of its own, i.e. to print a marker to its standard output.
+ *
+ * <p>The main class is launched a number of times, one after another,
+ * each time in a child JVM with the class path of the current one and
+ * some flags, e.g. {@code -Xshare:off} or {@code -XX:TieredStopAtLevel=1}.
+ * The time from the launch until the marker is printed is recorded into
+ * a {@link Histogram}, which must match a matcher like
+ * {@link HasPercentile}, and each child JVM is then destroyed. A run
+ * that exits or times out before it prints the marker is described
+ * with the last lines of its output. Each main class is launched once
+ * per match, and the mismatch of those runs is reused to describe
+ * it.</p>
+ *
+ * <p>Here is an example how {@link BecomesReady} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must be ready to serve in 500 ms at the median",
+ *      Server.class,
+ *      new BecomesReady(
+ *          "Listening on", new HasPercentile(0.5, 500L, TimeUnit.MILLISECONDS)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class BecomesReady extends TypeSafeDiagnosingMatcher<Class<?>> {
+
+    /**
+     * Lines of output to describe when a run fails.
+     */
+    private static final int TAIL = 20;
+
+    /**
+     * Marker of readiness.
+     */
+    private final String marker;
+
+    /**
+     * Number of runs.
+     */
+    private final int runs;
+
+    /**
+     * Timeout of each run in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Flags of the child JVMs.
+     */
+    private final Iterable<String> flags;
+
+    /**
+     * Matcher for the times to ready.
+     */
+    private final Matcher<? super Histogram> timing;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Class<?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param marker Text the main class prints once ready
+     * @param timing Matcher for the times to ready
+     */
+    public BecomesReady(
+        final String marker, final Matcher<? super Histogram> timing
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(marker, 5, 60_000L, Collections.emptyList(), timing);
+    }
+
+    /**
+     * Ctor.
+     * @param marker Text the main class prints once ready
+     * @param runs Number of runs
+     * @param millis Timeout of each run in milliseconds
+     * @param flags Flags of the child JVMs
+     * @param timing Matcher for the times to ready
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BecomesReady(
+        final String marker, final int runs, final long millis,
+        final Iterable<String> flags, final Matcher<? super Histogram> timing
+    ) {
+        super();
+        this.marker = marker;
+        this.runs = runs;
+        this.timeout = millis;
+        this.flags = flags;
+        this.timing = timing;
+        this.verdicts = new Verdicts<>(this::launched);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("prints ")
+            .appendValue(this.marker)
+            .appendText(" in ")
+            .appendValue(this.runs)
+            .appendText(" child JVMs with ")
+            .appendDescriptionOf(this.timing);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Class<?> main, final Description desc
+    ) {
+        return this.verdicts.matches(main, desc);
+    }
+
+    /**
+     * Launch the main class in all the runs and match the times to ready.
+     * @param main The main class
+     * @param desc Where to describe the mismatch
+     * @return Whether all runs became ready in time
+     */
+    private boolean launched(final Class<?> main, final Description desc) {
+        final Histogram histogram = new Histogram();
+        boolean matches = true;
+        for (int run = 1; run <= this.runs && matches; ++run) {
+            final List<String> output =
+                Collections.synchronizedList(new ArrayList<>(0));
+            final long elapsed = this.elapsed(main, output);
+            if (elapsed < 0L) {
+                desc.appendText("run ")
+                    .appendValue(run)
+                    .appendText(" did not print ")
+                    .appendValue(this.marker)
+                    .appendText(" within ")
+                    .appendValue(this.timeout)
+                    .appendText(" milliseconds, output:");
+                synchronized (output) {
+                    for (final String line : output.subList(
+                        Math.max(0, output.size() - BecomesReady.TAIL),
+                        output.size()
+                    )) {
+                        desc.appendText(System.lineSeparator())
+                            .appendText(line);
+                    }
+                }
+                matches = false;
+            } else {
+                histogram.add(elapsed);
+            }
+        }
+        if (matches && !this.timing.matches(histogram)) {
+            this.timing.describeMismatch(histogram, desc);
+            matches = false;
+        }
+        return matches;
+    }
+
+    /**
+     * Launch the main class and wait until it prints the marker.
+     * @param main The main class
+     * @param output Where to collect the lines it prints
+     * @return Nanoseconds until the marker, or -1 if it exited or timed
+     *  out before
+     */
+    private long elapsed(final Class<?> main, final List<String> output) {
+        final List<String> command = new ArrayList<>(0);
+        command.add(
+            Paths.get(System.getProperty("java.home"), "bin", "java")
+                .toString()
+        );
+        for (final String flag : this.flags) {
+            command.add(flag);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(main.getName());
+        final long start = System.nanoTime();
+        final Process process;
+        try {
+            process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .start();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final Future<Long> ready = new SharedExecutor().submit(
+            () -> this.awaited(process, start, output)
+        );
+        try {
+            return ready.get(this.timeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            return -1L;
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            process.destroyForcibly();
+            ready.cancel(true);
+        }
+    }
+
+    /**
+     * Read the output of a child JVM until it prints the marker.
+     * @param process The child JVM
+     * @param start When it was launched, in nanoseconds
+     * @param output Where to collect the lines it prints
+     * @return Nanoseconds until the marker, or -1 if it exited before
+     * @throws IOException If the output can't be read
+     */
+    private long awaited(
+        final Process process,
+        final long start,
+        final List<String> output
+    ) throws IOException {
+        long elapsed = -1L;
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(
+                process.getInputStream(), Charset.defaultCharset()
+            )
+        )) {
+            for (String line = reader.readLine(); line != null;
+                line = reader.readLine()) {
+                if (line.contains(this.marker)) {
+                    elapsed = System.nanoTime() - start;
+                    break;
+                }
+                output.add(line);
+            }
+        }
+        return elapsed;
+    }
+}
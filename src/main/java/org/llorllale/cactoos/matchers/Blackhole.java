@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+/**
+ * Sink for results of measured code, so that the JIT compiler cannot
+ * eliminate the code as dead.
+ *
+ * <p>Every result is compared to a field the compiler knows nothing
+ * about, and once in a while, driven by a pseudo-random sequence, stored
+ * into it, so that results must be computed, and allocated if they are
+ * objects, at the cost of a few arithmetic instructions.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 1.0.0
+ */
+final class Blackhole {
+
+    /**
+     * Multiplier of the linear congruential generator.
+     */
+    private static final int MULTIPLIER = 1_664_525;
+
+    /**
+     * Increment of the linear congruential generator.
+     */
+    private static final int INCREMENT = 1_013_904_223;
+
+    /**
+     * State of the pseudo-random sequence.
+     */
+    private int seed;
+
+    /**
+     * Results are stored when the masked state is zero.
+     */
+    private int mask;
+
+    /**
+     * Last stored result.
+     */
+    private Object stored;
+
+    /**
+     * Ctor.
+     */
+    Blackhole() {
+        this.seed = (int) System.nanoTime();
+        this.mask = 1;
+        this.stored = new Object();
+    }
+
+    /**
+     * Consume a result.
+     * @param result The result
+     */
+    void consume(final Object result) {
+        this.seed = this.seed * Blackhole.MULTIPLIER + Blackhole.INCREMENT;
+        if ((this.seed & this.mask) == 0 || result == this.stored) {
+            this.stored = result;
+            this.mask = (this.mask << 1) + 1;
+        }
+    }
+}
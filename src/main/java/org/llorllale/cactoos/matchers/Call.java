@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Objects;
+
+/**
+ * Operation that was applied to a concurrent object: when it was invoked,
+ * when it returned and with what result.
+ *
+ * @param <T> Type of the concurrent object
+ * @param <S> Type of the state of the model
+ * @since 1.0.0
+ */
+final class Call<T, S> {
+
+    /**
+     * Index of the thread that applied the operation.
+     */
+    private final int thread;
+
+    /**
+     * The operation.
+     */
+    private final Operation<T, S> operation;
+
+    /**
+     * Invocation time in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Response time in nanoseconds.
+     */
+    private final long end;
+
+    /**
+     * Result of the operation.
+     */
+    private final Object result;
+
+    /**
+     * Ctor.
+     * @param thread Index of the thread that applied the operation
+     * @param operation The operation
+     * @param start Invocation time in nanoseconds
+     * @param end Response time in nanoseconds
+     * @param result Result of the operation
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Call(
+        final int thread, final Operation<T, S> operation,
+        final long start, final long end, final Object result
+    ) {
+        this.thread = thread;
+        this.operation = operation;
+        this.start = start;
+        this.end = end;
+        this.result = result;
+    }
+
+    /**
+     * When the operation was invoked.
+     * @return Nanoseconds
+     */
+    long invoked() {
+        return this.start;
+    }
+
+    /**
+     * When the operation returned.
+     * @return Nanoseconds
+     */
+    long returned() {
+        return this.end;
+    }
+
+    /**
+     * Whether the model gives the same result in this state.
+     * @param state State of the model
+     * @return True if it does
+     * @throws Exception If the model fails
+     */
+    boolean legal(final S state) throws Exception {
+        return Objects.equals(this.operation.expected(state), this.result);
+    }
+
+    /**
+     * State of the model after the operation.
+     * @param state State of the model before the operation
+     * @return State after
+     * @throws Exception If the model fails
+     */
+    S next(final S state) throws Exception {
+        return this.operation.next(state);
+    }
+
+    /**
+     * Describe the call.
+     * @param origin Time all others are relative to, in nanoseconds
+     * @return Description
+     */
+    String describe(final long origin) {
+        return String.format(
+            "thread %d: %s -> %s [%s, %s]",
+            this.thread, this.operation, this.result,
+            new Nanos(this.invoked() - origin),
+            new Nanos(this.returned() - origin)
+        );
+    }
+}
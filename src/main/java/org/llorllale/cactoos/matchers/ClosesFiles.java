@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Collections;
+import org.cactoos.Func;
+
+/**
+ * Matcher to check that a {@link Func} closes the files it opens.
+ *
+ * <p>The open file descriptors of the process are counted by
+ * {@code com.sun.management.UnixOperatingSystemMXBean} before and after
+ * the {@link Func} is invoked, and must not grow by more than a
+ * tolerance. Streams that are not closed but unreachable are closed
+ * once they are garbage collected, so the garbage collector is run a
+ * few times before the matcher gives up. The count is process-wide,
+ * so files opened meanwhile by other threads count too.</p>
+ *
+ * <p>Here is an example how {@link ClosesFiles} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must close the file when it is malformed",
+ *      (Func<Path, ?>) path -> new Config(path).value(),
+ *      new ClosesFiles<>(Paths.get("malformed.yml"))
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ */
+public final class ClosesFiles<T> extends
+    MatcherEnvelope<Func<? super T, ?>> {
+
+    /**
+     * Ctor.
+     * @param object Input object
+     */
+    public ClosesFiles(final T object) {
+        // @checkstyle MagicNumber (1 line)
+        this(object, 0L, 3);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param tolerance File descriptors that may stay open
+     * @param attempts Garbage collections to try
+     */
+    public ClosesFiles(
+        final T object,
+        final long tolerance,
+        final int attempts
+    ) {
+        super(
+            new Leak<>(
+                object,
+                Collections.singletonList(
+                    new Gauge(
+                        "file descriptors", ClosesFiles::descriptors,
+                        tolerance
+                    )
+                ),
+                attempts
+            )
+        );
+    }
+
+    /**
+     * Count the open file descriptors of the process.
+     * @return Number of file descriptors
+     */
+    private static Long descriptors() {
+        final OperatingSystemMXBean system =
+            ManagementFactory.getOperatingSystemMXBean();
+        if (!(system instanceof com.sun.management.UnixOperatingSystemMXBean)) {
+            throw new IllegalStateException(
+                "Open file descriptors are not counted by this JVM"
+            );
+        }
+        return ((com.sun.management.UnixOperatingSystemMXBean) system)
+            .getOpenFileDescriptorCount();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ThreadInfo;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock contention of a thread during a run.
+ *
+ * <p>Threads are blocked when they wait to enter a {@code synchronized}
+ * block, and are waiting when they park, e.g. in
+ * {@link java.util.concurrent.locks.ReentrantLock} or
+ * {@link Object#wait()}.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Contention {
+
+    /**
+     * Name of the thread.
+     */
+    private final String thread;
+
+    /**
+     * Times blocked.
+     */
+    private final long blocks;
+
+    /**
+     * Nanoseconds blocked.
+     */
+    private final long blocking;
+
+    /**
+     * Times waited.
+     */
+    private final long waits;
+
+    /**
+     * Nanoseconds waited.
+     */
+    private final long waiting;
+
+    /**
+     * Ctor.
+     * @param before Thread information at the start of the run
+     * @param after Thread information at the end of the run
+     */
+    public Contention(final ThreadInfo before, final ThreadInfo after) {
+        this(
+            after.getThreadName(),
+            after.getBlockedCount() - before.getBlockedCount(),
+            TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0L, after.getBlockedTime())
+                - Math.max(0L, before.getBlockedTime())
+            ),
+            after.getWaitedCount() - before.getWaitedCount(),
+            TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0L, after.getWaitedTime())
+                - Math.max(0L, before.getWaitedTime())
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param name Name of the thread
+     * @param blocked Times the thread was blocked
+     * @param blocktime Nanoseconds the thread was blocked
+     * @param waited Times the thread waited
+     * @param waittime Nanoseconds the thread waited
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Contention(
+        final String name, final long blocked, final long blocktime,
+        final long waited, final long waittime
+    ) {
+        this.thread = name;
+        this.blocks = blocked;
+        this.blocking = blocktime;
+        this.waits = waited;
+        this.waiting = waittime;
+    }
+
+    /**
+     * Times the thread was blocked.
+     * @return Count
+     */
+    public long blockedCount() {
+        return this.blocks;
+    }
+
+    /**
+     * Time the thread was blocked.
+     * @return Nanoseconds
+     */
+    public long blockedTime() {
+        return this.blocking;
+    }
+
+    /**
+     * Times the thread waited.
+     * @return Count
+     */
+    public long waitedCount() {
+        return this.waits;
+    }
+
+    /**
+     * Time the thread waited.
+     * @return Nanoseconds
+     */
+    public long waitedTime() {
+        return this.waiting;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s blocked %d times for %s, waited %d times for %s",
+            this.thread,
+            this.blockedCount(),
+            new Nanos(this.blockedTime()),
+            this.waitedCount(),
+            new Nanos(this.waitedTime())
+        );
+    }
+}
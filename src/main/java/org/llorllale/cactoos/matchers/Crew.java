@@ -0,0 +1,235 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.BiFunc;
+
+/**
+ * Pool of threads that are started first and then released together to
+ * run a task each, watched by a {@link Watchdog} until they are done.
+ *
+ * <p>Every task records its latencies into a {@link Histogram} of its
+ * own, and the histograms are merged into the {@link RunStatistics} of
+ * the run once all tasks are done. If they deadlock or time out, the
+ * statistics of the tasks that finished are appended to the
+ * description of the stuck threads.</p>
+ *
+ * @since 1.0.0
+ */
+final class Crew {
+
+    /**
+     * Number of threads.
+     */
+    private final int total;
+
+    /**
+     * Timeout of the whole run in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Ctor.
+     * @param threads Number of threads
+     * @param millis Timeout of the whole run in milliseconds
+     */
+    Crew(final int threads, final long millis) {
+        this.total = threads;
+        this.timeout = millis;
+    }
+
+    /**
+     * Run the task in all threads at once.
+     * @param task Task of every thread, given the start of the run in
+     *  nanoseconds and where to record its latencies, which returns
+     *  whether it succeeded
+     * @param contention Contention of the threads, recorded by the tasks
+     * @return Statistics of the run
+     * @throws TimeoutException If the threads deadlock or time out
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public RunStatistics run(
+        final BiFunc<Long, Histogram, Boolean> task,
+        final Collection<Contention> contention
+    ) throws TimeoutException, InterruptedException {
+        final ExecutorService service = this.pool();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Collection<Long> busy = ConcurrentHashMap.newKeySet();
+        final AtomicLong start = new AtomicLong();
+        final List<Future<Boolean>> futures = new ArrayList<>(this.total);
+        final List<Histogram> latencies = new ArrayList<>(this.total);
+        for (int thread = 0; thread < this.total; ++thread) {
+            final Histogram latency = new Histogram();
+            latencies.add(latency);
+            futures.add(
+                service.submit(
+                    () -> {
+                        latch.await();
+                        return Crew.watched(task, start.get(), latency, busy);
+                    }
+                )
+            );
+        }
+        start.set(System.nanoTime());
+        latch.countDown();
+        try {
+            new Watchdog(this.timeout).await(futures, busy);
+        } catch (final TimeoutException ex) {
+            throw new TimeoutException(
+                String.join(
+                    System.lineSeparator(),
+                    ex.getMessage(),
+                    String.format(
+                        "threads that finished: %s",
+                        Crew.finished(
+                            futures, latencies, System.nanoTime() - start.get()
+                        )
+                    )
+                )
+            );
+        } finally {
+            service.shutdownNow();
+        }
+        return new RunStatistics(
+            this.total, Crew.successes(futures),
+            System.nanoTime() - start.get(), Crew.merged(latencies),
+            contention
+        );
+    }
+
+    /**
+     * Pool of daemon threads, so that stuck ones do not prevent the JVM
+     * from exiting.
+     * @return Pool
+     */
+    private ExecutorService pool() {
+        final ThreadFactory factory = Executors.defaultThreadFactory();
+        return Executors.newFixedThreadPool(
+            this.total,
+            runnable -> {
+                final Thread thread = factory.newThread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * Run the task in the current thread, as busy while it runs.
+     * @param task Task to run
+     * @param start Start of the run in nanoseconds
+     * @param latency Where to record the latencies
+     * @param busy Ids of the threads still running their task
+     * @return Whether the task succeeded
+     * @throws Exception If the task fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static boolean watched(
+        final BiFunc<Long, Histogram, Boolean> task, final long start,
+        final Histogram latency, final Collection<Long> busy
+    ) throws Exception {
+        final Long thread = Thread.currentThread().getId();
+        busy.add(thread);
+        try {
+            return task.apply(start, latency);
+        } finally {
+            busy.remove(thread);
+        }
+    }
+
+    /**
+     * Number of tasks that returned true.
+     * @param tasks Finished tasks
+     * @return Count
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private static int successes(final Iterable<Future<Boolean>> tasks)
+        throws InterruptedException {
+        int count = 0;
+        for (final Future<Boolean> task : tasks) {
+            try {
+                if (task.get()) {
+                    ++count;
+                }
+            } catch (final ExecutionException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Statistics of the tasks that are done, while others are stuck.
+     * @param tasks Tasks
+     * @param latencies Latencies recorded by each task
+     * @param elapsed Wall time so far in nanoseconds
+     * @return Statistics
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private static RunStatistics finished(
+        final List<Future<Boolean>> tasks,
+        final List<Histogram> latencies,
+        final long elapsed
+    ) throws InterruptedException {
+        final List<Future<Boolean>> done = new ArrayList<>(tasks.size());
+        final List<Histogram> parts = new ArrayList<>(tasks.size());
+        for (int idx = 0; idx < tasks.size(); ++idx) {
+            if (tasks.get(idx).isDone()) {
+                done.add(tasks.get(idx));
+                parts.add(latencies.get(idx));
+            }
+        }
+        return new RunStatistics(
+            done.size(), Crew.successes(done), elapsed, Crew.merged(parts)
+        );
+    }
+
+    /**
+     * All histograms merged into one.
+     * @param parts Histograms to merge
+     * @return Merged histogram
+     */
+    private static Histogram merged(final Iterable<Histogram> parts) {
+        final Histogram all = new Histogram();
+        for (final Histogram part : parts) {
+            all.add(part);
+        }
+        return all;
+    }
+}
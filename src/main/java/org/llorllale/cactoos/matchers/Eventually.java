@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that the value of a {@link Scalar} matches sooner or
+ * later.
+ *
+ * <p>The value is taken and matched again and again, sleeping between
+ * the attempts for a delay that grows exponentially up to a maximum,
+ * until it matches or the deadline is over. A value that fails to be
+ * taken counts as a failed attempt. On mismatch the last mismatch is
+ * described, along with the number of attempts. Each {@link Scalar} is
+ * polled once per match, and the mismatch of that polling is reused to
+ * describe it.</p>
+ *
+ * <p>Here is an example how {@link Eventually} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must drain the queue within 5 seconds",
+ *      queue::size,
+ *      new Eventually<>(5000L, new IsEqual<>(0))
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of the scalar's value
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class Eventually<T> extends
+    TypeSafeDiagnosingMatcher<Scalar<? extends T>> {
+
+    /**
+     * Deadline in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Delay after the first attempt in milliseconds.
+     */
+    private final long initial;
+
+    /**
+     * Factor the delay grows by after every attempt.
+     */
+    private final double factor;
+
+    /**
+     * Maximum delay in milliseconds.
+     */
+    private final long limit;
+
+    /**
+     * Matcher for the value.
+     */
+    private final Matcher<? super T> matcher;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Scalar<? extends T>> verdicts;
+
+    /**
+     * Ctor.
+     * @param millis Deadline in milliseconds
+     * @param matcher Matcher for the value
+     */
+    public Eventually(final long millis, final Matcher<? super T> matcher) {
+        // @checkstyle MagicNumber (1 line)
+        this(millis, 1L, 2.0, 100L, matcher);
+    }
+
+    /**
+     * Ctor.
+     * @param millis Deadline in milliseconds
+     * @param initial Delay after the first attempt in milliseconds
+     * @param factor Factor the delay grows by after every attempt
+     * @param limit Maximum delay in milliseconds
+     * @param matcher Matcher for the value
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Eventually(
+        final long millis, final long initial, final double factor,
+        final long limit, final Matcher<? super T> matcher
+    ) {
+        super();
+        this.timeout = millis;
+        this.initial = initial;
+        this.factor = factor;
+        this.limit = limit;
+        this.matcher = matcher;
+        this.verdicts = new Verdicts<>(this::polled);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("eventually ")
+            .appendDescriptionOf(this.matcher)
+            .appendText(" within ")
+            .appendValue(this.timeout)
+            .appendText(" milliseconds");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Scalar<? extends T> scalar, final Description desc
+    ) {
+        return this.verdicts.matches(scalar, desc);
+    }
+
+    /**
+     * Poll the scalar until its value matches or the deadline is over.
+     * @param scalar Scalar
+     * @param desc Where to describe the mismatch
+     * @return Whether the value matches
+     */
+    private boolean polled(
+        final Scalar<? extends T> scalar, final Description desc
+    ) {
+        final long start = System.nanoTime();
+        final long deadline = TimeUnit.MILLISECONDS.toNanos(this.timeout);
+        double delay = TimeUnit.MILLISECONDS.toNanos(this.initial);
+        Description last;
+        int attempts = 0;
+        boolean matches;
+        long left;
+        do {
+            ++attempts;
+            last = new StringDescription();
+            matches = this.attempt(scalar, last);
+            left = deadline - (System.nanoTime() - start);
+            if (!matches && left > 0L) {
+                Eventually.sleep(Math.min((long) delay, left));
+                delay = Math.min(
+                    delay * this.factor,
+                    TimeUnit.MILLISECONDS.toNanos(this.limit)
+                );
+            }
+        } while (!matches && left > 0L);
+        if (!matches) {
+            desc.appendText(last.toString())
+                .appendText(" after ")
+                .appendValue(attempts)
+                .appendText(" attempts in ")
+                .appendText(new Nanos(System.nanoTime() - start).toString());
+        }
+        return matches;
+    }
+
+    /**
+     * Take the value and match it.
+     * @param scalar Scalar
+     * @param mismatch Where to describe the mismatch
+     * @return Whether the value matches
+     */
+    private boolean attempt(
+        final Scalar<? extends T> scalar, final Description mismatch
+    ) {
+        boolean matches = false;
+        try {
+            final T value = scalar.value();
+            matches = this.matcher.matches(value);
+            if (!matches) {
+                this.matcher.describeMismatch(value, mismatch);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            mismatch.appendText("threw ").appendValue(ex);
+        }
+        return matches;
+    }
+
+    /**
+     * Sleep.
+     * @param nanos How long, in nanoseconds
+     */
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memory footprint of an object graph.
+ *
+ * <p>The graph is walked from its root through all the instance fields
+ * and array elements, each object is counted once, by identity, and
+ * sized by the {@link ObjectLayout} of the running JVM. Instances of
+ * classes to exclude are neither counted nor walked into, nor are
+ * {@link Class} objects and enum constants, which belong to their
+ * classes rather than to the graph.</p>
+ *
+ * <p>The retained size is the size of everything reachable from the
+ * root, so objects shared with the rest of the heap, like interned
+ * strings or cached boxes, are counted too: exclude their classes if
+ * they matter.</p>
+ *
+ * @since 1.0.0
+ */
+final class Footprint {
+
+    /**
+     * Classes to report in the description.
+     */
+    private static final int TOP = 10;
+
+    /**
+     * Index of the number of objects in totals.
+     */
+    private static final int OBJECTS = 0;
+
+    /**
+     * Index of the size in bytes in totals.
+     */
+    private static final int BYTES = 1;
+
+    /**
+     * Shallow size of the root in bytes.
+     */
+    private final long shallow;
+
+    /**
+     * Totals of objects and bytes, by class.
+     */
+    private final Map<Class<?>, long[]> classes;
+
+    /**
+     * Ctor.
+     * @param root Root of the graph
+     * @param excluded Classes whose instances are not part of the graph
+     */
+    Footprint(final Object root, final Iterable<Class<?>> excluded) {
+        this(new ObjectLayout(), root, excluded);
+    }
+
+    /**
+     * Ctor.
+     * @param layout Layout of objects
+     * @param root Root of the graph
+     * @param excluded Classes whose instances are not part of the graph
+     */
+    private Footprint(
+        final ObjectLayout layout,
+        final Object root,
+        final Iterable<Class<?>> excluded
+    ) {
+        this(
+            layout.size(root),
+            Footprint.walked(layout, root, excluded)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param shallow Shallow size of the root in bytes
+     * @param classes Totals of objects and bytes, by class
+     */
+    private Footprint(
+        final long shallow,
+        final Map<Class<?>, long[]> classes
+    ) {
+        this.shallow = shallow;
+        this.classes = classes;
+    }
+
+    /**
+     * Shallow size of the root.
+     * @return Size in bytes
+     */
+    long shallow() {
+        return this.shallow;
+    }
+
+    /**
+     * Retained size of the graph.
+     * @return Size in bytes
+     */
+    long retained() {
+        return this.total(Footprint.BYTES);
+    }
+
+    /**
+     * Objects in the graph.
+     * @return Number of objects
+     */
+    long objects() {
+        return this.total(Footprint.OBJECTS);
+    }
+
+    @Override
+    public String toString() {
+        final List<Map.Entry<Class<?>, long[]>> top =
+            new ArrayList<>(this.classes.entrySet());
+        top.sort(
+            (left, right) -> Long.compare(
+                right.getValue()[Footprint.BYTES],
+                left.getValue()[Footprint.BYTES]
+            )
+        );
+        final StringBuilder text = new StringBuilder(0)
+            .append(this.retained()).append(" bytes in ")
+            .append(this.objects()).append(" objects, ")
+            .append(this.shallow).append(" bytes shallow, most by:");
+        for (final Map.Entry<Class<?>, long[]> entry
+            : top.subList(0, Math.min(Footprint.TOP, top.size()))) {
+            text.append(System.lineSeparator())
+                .append('\t').append(entry.getKey().getTypeName())
+                .append(": ").append(entry.getValue()[Footprint.BYTES])
+                .append(" bytes in ")
+                .append(entry.getValue()[Footprint.OBJECTS])
+                .append(" objects");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Sum of totals of all classes.
+     * @param index Index of the total
+     * @return Sum
+     */
+    private long total(final int index) {
+        long total = 0L;
+        for (final long[] totals : this.classes.values()) {
+            total += totals[index];
+        }
+        return total;
+    }
+
+    /**
+     * Walk a graph and total its objects by class.
+     * @param layout Layout of objects
+     * @param root Root of the graph
+     * @param excluded Classes whose instances are not part of the graph
+     * @return Totals of objects and bytes, by class
+     */
+    private static Map<Class<?>, long[]> walked(
+        final ObjectLayout layout,
+        final Object root,
+        final Iterable<Class<?>> excluded
+    ) {
+        final Map<Class<?>, long[]> classes = new HashMap<>(0);
+        final Set<Object> visited =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> pending = new ArrayDeque<>(0);
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final Object object = pending.pop();
+            if (Footprint.outside(object, excluded) || !visited.add(object)) {
+                continue;
+            }
+            final long[] totals = classes.computeIfAbsent(
+                object.getClass(), type -> new long[2]
+            );
+            totals[Footprint.OBJECTS] += 1L;
+            totals[Footprint.BYTES] += layout.size(object);
+            layout.references(object, pending);
+        }
+        return classes;
+    }
+
+    /**
+     * Whether an object is not part of the graph.
+     * @param object The object
+     * @param excluded Classes whose instances are not part of the graph
+     * @return True if it is not
+     */
+    private static boolean outside(
+        final Object object,
+        final Iterable<Class<?>> excluded
+    ) {
+        boolean outside = object instanceof Class || object instanceof Enum;
+        for (final Class<?> type : excluded) {
+            outside = outside || type.isInstance(object);
+        }
+        return outside;
+    }
+}
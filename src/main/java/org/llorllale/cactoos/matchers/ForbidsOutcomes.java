@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.List;
+import org.cactoos.list.ListOf;
+
+/**
+ * Matcher to check that forbidden {@link Outcomes} of races never
+ * appear.
+ *
+ * <p>Here is an example how {@link ForbidsOutcomes} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not reorder volatile stores and loads",
+ *      new ListOf<Func<AtomicIntegerArray, Object>>(
+ *          array -> {
+ *              array.set(0, 1);
+ *              return array.get(1);
+ *          },
+ *          array -> {
+ *              array.set(1, 1);
+ *              return array.get(0);
+ *          }
+ *      ),
+ *      new RacesInThreads<>(
+ *          () -> new AtomicIntegerArray(2), 1_000_000,
+ *          new ForbidsOutcomes(new ListOf<>(0, 0))
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ForbidsOutcomes extends MatcherEnvelope<Outcomes> {
+
+    /**
+     * Ctor.
+     * @param outcomes Forbidden outcomes
+     */
+    public ForbidsOutcomes(final List<?>... outcomes) {
+        this(new ListOf<>(outcomes));
+    }
+
+    /**
+     * Ctor.
+     * @param outcomes Forbidden outcomes
+     */
+    public ForbidsOutcomes(final Iterable<? extends List<?>> outcomes) {
+        super(
+            new MatcherOf<>(
+                observed -> {
+                    boolean matches = true;
+                    for (final List<?> outcome : outcomes) {
+                        matches = matches && observed.count(outcome) == 0L;
+                    }
+                    return matches;
+                },
+                desc -> desc.appendValueList("never ", ", ", "", outcomes),
+                (observed, desc) -> {
+                    String prefix = "observed ";
+                    for (final List<?> outcome : outcomes) {
+                        final long count = observed.count(outcome);
+                        if (count > 0L) {
+                            desc.appendText(prefix)
+                                .appendValue(outcome)
+                                .appendText(" ")
+                                .appendValue(count)
+                                .appendText(" times");
+                            prefix = ", ";
+                        }
+                    }
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Reading of a resource of the JVM, e.g. open file descriptors, that
+ * must not grow by more than some tolerance.
+ *
+ * @since 1.0.0
+ */
+final class Gauge {
+
+    /**
+     * Name of the resource, in plural.
+     */
+    private final String name;
+
+    /**
+     * Reading of the resource.
+     */
+    private final Scalar<Long> reading;
+
+    /**
+     * How much the resource may grow.
+     */
+    private final long tolerance;
+
+    /**
+     * Ctor.
+     * @param name Name of the resource, in plural
+     * @param reading Reading of the resource
+     * @param tolerance How much the resource may grow
+     */
+    Gauge(
+        final String name,
+        final Scalar<Long> reading,
+        final long tolerance
+    ) {
+        this.name = name;
+        this.reading = reading;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Read the resource.
+     * @return Current value
+     */
+    long value() {
+        return new Unchecked<>(this.reading).value();
+    }
+
+    /**
+     * Whether the resource grew by more than the tolerance.
+     * @param before Value before
+     * @param after Value after
+     * @return True if it did
+     */
+    boolean exceeded(final long before, final long after) {
+        return after - before > this.tolerance;
+    }
+
+    /**
+     * Name of the resource.
+     * @return Name, in plural
+     */
+    String name() {
+        return this.name;
+    }
+
+    /**
+     * How much the resource may grow.
+     * @return Tolerance
+     */
+    long tolerance() {
+        return this.tolerance;
+    }
+}
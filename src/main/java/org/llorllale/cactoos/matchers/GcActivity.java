@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+/**
+ * Garbage collections that happened during a run.
+ *
+ * <p>Collections are counted in the whole JVM, so the ones triggered by
+ * other threads running at the same time count too.</p>
+ *
+ * @since 1.0.0
+ */
+public final class GcActivity {
+
+    /**
+     * Number of collections.
+     */
+    private final long count;
+
+    /**
+     * Accumulated collection time in nanoseconds.
+     */
+    private final long total;
+
+    /**
+     * Longest collection in nanoseconds.
+     */
+    private final long longest;
+
+    /**
+     * Ctor.
+     * @param collections Number of collections
+     * @param nanos Accumulated collection time in nanoseconds
+     * @param pause Longest collection in nanoseconds
+     */
+    public GcActivity(
+        final long collections, final long nanos, final long pause
+    ) {
+        this.count = collections;
+        this.total = nanos;
+        this.longest = pause;
+    }
+
+    /**
+     * Number of collections.
+     * @return Count
+     */
+    public long collections() {
+        return this.count;
+    }
+
+    /**
+     * Accumulated collection time.
+     * @return Nanoseconds
+     */
+    public long time() {
+        return this.total;
+    }
+
+    /**
+     * Longest collection, i.e. the longest pause with stop-the-world
+     * collectors.
+     * @return Nanoseconds
+     */
+    public long pause() {
+        return this.longest;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d collections in %s, longest %s",
+            this.count, new Nanos(this.total), new Nanos(this.longest)
+        );
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check the number of collections of {@link GcActivity}.
+ *
+ * <p>Here is an example how {@link HasCollections} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not collect garbage in the inner loop",
+ *      (Func<long[], Long>) array -> new Sum(array).value(),
+ *      new RunsWithGc<>(new long[1_000_000], new HasCollections(0L))
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class HasCollections extends MatcherEnvelope<GcActivity> {
+
+    /**
+     * Ctor.
+     * @param maximum Maximum number of collections
+     */
+    public HasCollections(final long maximum) {
+        this(new IsComparableLessThanOrEqualTo<>(maximum));
+    }
+
+    /**
+     * Ctor.
+     * @param matcher Matcher for the number of collections
+     */
+    public HasCollections(final Matcher<? super Long> matcher) {
+        super(
+            new MatcherOf<>(
+                gc -> matcher.matches(gc.collections()),
+                desc -> desc
+                    .appendText("collections ")
+                    .appendDescriptionOf(matcher),
+                (gc, desc) -> {
+                    desc.appendText("collections ");
+                    matcher.describeMismatch(gc.collections(), desc);
+                    desc.appendText(" in ").appendText(gc.toString());
+                }
+            )
+        );
+    }
+}
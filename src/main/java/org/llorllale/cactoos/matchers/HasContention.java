@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check the lock contention of {@link RunStatistics}.
+ *
+ * <p>It matches the ratio between the time the threads were blocked
+ * entering {@code synchronized} blocks and the time they ran, and
+ * prints the contention of every thread on mismatch.</p>
+ *
+ * <p>Here is an example how {@link HasContention} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must be blocked less than 5% of the time",
+ *      cache -> cache.get("key") != null,
+ *      new RunsInThreads<>(
+ *          new StripedCache(), 16, 1000,
+ *          new HasContention(0.05)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class HasContention extends MatcherEnvelope<RunStatistics> {
+
+    /**
+     * Ctor.
+     * @param ratio Ratio of blocked time to wall time the threads must
+     *  stay below, e.g. 0.05 for 5%
+     */
+    public HasContention(final double ratio) {
+        this(new IsComparableLessThan<>(ratio));
+    }
+
+    /**
+     * Ctor.
+     * @param matcher Matcher for the ratio of blocked time to wall time
+     */
+    public HasContention(final Matcher<? super Double> matcher) {
+        super(
+            new MatcherOf<>(
+                stats -> matcher.matches(HasContention.ratio(stats)),
+                desc -> desc
+                    .appendText("blocked time ratio ")
+                    .appendDescriptionOf(matcher),
+                (stats, desc) -> {
+                    desc.appendText("blocked time ratio ");
+                    matcher.describeMismatch(
+                        HasContention.ratio(stats), desc
+                    );
+                    desc.appendText(" in ").appendText(stats.toString());
+                    for (final Contention thread : stats.contention()) {
+                        desc.appendText(System.lineSeparator())
+                            .appendText(thread.toString());
+                    }
+                }
+            )
+        );
+    }
+
+    /**
+     * Ratio of the time all threads were blocked to the time they ran.
+     * @param stats Statistics of the run
+     * @return Ratio
+     */
+    private static double ratio(final RunStatistics stats) {
+        long blocked = 0L;
+        for (final Contention thread : stats.contention()) {
+            blocked += thread.blockedTime();
+        }
+        return (double) blocked
+            / Math.max(1L, stats.elapsed() * stats.threads());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check a latency percentile of {@link RunStatistics}.
+ *
+ * <p>The latencies of the run are checked with {@link HasPercentile}, so
+ * the limit is inclusive like in the other duration matchers.</p>
+ *
+ * <p>Here is an example how {@link HasLatency} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must answer within 2 ms at p99 with 64 threads",
+ *      map -> map.put("key", "value") != null || map.containsKey("key"),
+ *      new RunsInThreads<>(
+ *          new ConcurrentHashMap<>(), 64, 1000,
+ *          new HasLatency(0.99, 2L, TimeUnit.MILLISECONDS)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class HasLatency extends MatcherEnvelope<RunStatistics> {
+
+    /**
+     * Ctor.
+     * @param quantile Quantile, between 0 and 1 (e.g. 0.99 for p99)
+     * @param limit Latency the percentile must not exceed
+     * @param unit Unit of the limit
+     */
+    public HasLatency(
+        final double quantile, final long limit, final TimeUnit unit
+    ) {
+        this(new HasPercentile(quantile, limit, unit));
+    }
+
+    /**
+     * Ctor.
+     * @param quantile Quantile, between 0 and 1 (e.g. 0.99 for p99)
+     * @param matcher Matcher for the percentile in nanoseconds
+     */
+    public HasLatency(
+        final double quantile, final Matcher<? super Long> matcher
+    ) {
+        this(new HasPercentile(quantile, matcher));
+    }
+
+    /**
+     * Ctor.
+     * @param percentile Matcher for the latencies
+     */
+    private HasLatency(final Matcher<Histogram> percentile) {
+        super(
+            new MatcherOf<>(
+                stats -> percentile.matches(stats.latency()),
+                desc -> desc
+                    .appendText("latency ")
+                    .appendDescriptionOf(percentile),
+                (stats, desc) -> {
+                    desc.appendText("latency ");
+                    percentile.describeMismatch(stats.latency(), desc);
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check the longest collection of {@link GcActivity}.
+ *
+ * <p>Here is an example how {@link HasMaxPause} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not pause for garbage collection longer than 10 ms",
+ *      (Func<Batch, Boolean>) batch -> batch.process(),
+ *      new RunsWithGc<>(
+ *          new Batch(10_000), new HasMaxPause(10L, TimeUnit.MILLISECONDS)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class HasMaxPause extends MatcherEnvelope<GcActivity> {
+
+    /**
+     * Ctor.
+     * @param limit Duration the longest collection must not exceed
+     * @param unit Unit of the limit
+     */
+    public HasMaxPause(final long limit, final TimeUnit unit) {
+        this(new IsComparableLessThanOrEqualTo<>(unit.toNanos(limit)));
+    }
+
+    /**
+     * Ctor.
+     * @param matcher Matcher for the longest collection in nanoseconds
+     */
+    public HasMaxPause(final Matcher<? super Long> matcher) {
+        super(
+            new MatcherOf<>(
+                gc -> matcher.matches(gc.pause()),
+                desc -> desc
+                    .appendText("longest pause in nanoseconds ")
+                    .appendDescriptionOf(matcher),
+                (gc, desc) -> {
+                    desc.appendText("longest pause ");
+                    matcher.describeMismatch(gc.pause(), desc);
+                    desc.appendText(" in ").appendText(gc.toString());
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check a percentile of a {@link Histogram} of durations.
+ *
+ * <p>Here is an example how {@link HasPercentile} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must parse in 50 us at p90 once warmed up",
+ *      "{\"key\": \"value\"}",
+ *      new MatchesBefore<>(
+ *          10_000L, 1000, 1000,
+ *          new HasPercentile(0.9, 50L, TimeUnit.MICROSECONDS),
+ *          new Satisfies<>(json -> new Parsed(json).has("key"))
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class HasPercentile extends MatcherEnvelope<Histogram> {
+
+    /**
+     * Ctor.
+     * @param quantile Quantile, between 0 and 1 (e.g. 0.5 for the median,
+     *  0.99 for p99 or 1 for the maximum)
+     * @param limit Duration the percentile must not exceed
+     * @param unit Unit of the limit
+     */
+    public HasPercentile(
+        final double quantile, final long limit, final TimeUnit unit
+    ) {
+        this(
+            quantile,
+            new IsComparableLessThanOrEqualTo<>(unit.toNanos(limit))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param quantile Quantile, between 0 and 1 (e.g. 0.5 for the median,
+     *  0.99 for p99 or 1 for the maximum)
+     * @param matcher Matcher for the percentile in nanoseconds
+     */
+    public HasPercentile(
+        final double quantile, final Matcher<? super Long> matcher
+    ) {
+        super(
+            new MatcherOf<>(
+                histogram -> matcher.matches(histogram.percentile(quantile)),
+                desc -> desc
+                    .appendText(new Percentile(quantile).toString())
+                    .appendText(" in nanoseconds ")
+                    .appendDescriptionOf(matcher),
+                (histogram, desc) -> {
+                    desc
+                        .appendText(new Percentile(quantile).toString())
+                        .appendText(" ");
+                    matcher.describeMismatch(
+                        histogram.percentile(quantile), desc
+                    );
+                    desc.appendText(" in ").appendText(histogram.toString());
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check the time a {@link StartupCost} took.
+ *
+ * <p>Here is an example how {@link HasStartupTime} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "initializing the client must take less than 150 ms",
+ *      (Func<URI, Client>) Client::new,
+ *      new RunsCold<>(
+ *          URI.create("http://localhost"),
+ *          new HasStartupTime(150L, TimeUnit.MILLISECONDS)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class HasStartupTime extends MatcherEnvelope<StartupCost> {
+
+    /**
+     * Ctor.
+     * @param limit Duration the invocation must not exceed
+     * @param unit Unit of the limit
+     */
+    public HasStartupTime(final long limit, final TimeUnit unit) {
+        this(new IsComparableLessThanOrEqualTo<>(unit.toNanos(limit)));
+    }
+
+    /**
+     * Ctor.
+     * @param matcher Matcher for the elapsed time in nanoseconds
+     */
+    public HasStartupTime(final Matcher<? super Long> matcher) {
+        super(
+            new MatcherOf<>(
+                cost -> matcher.matches(cost.time()),
+                desc -> desc
+                    .appendText("startup time in nanoseconds ")
+                    .appendDescriptionOf(matcher),
+                (cost, desc) -> {
+                    desc.appendText("startup time ");
+                    matcher.describeMismatch(cost.time(), desc);
+                    desc.appendText(" in ").appendText(cost.toString());
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher to check the aggregate throughput of {@link RunStatistics}.
+ *
+ * <p>Here is an example how {@link HasThroughput} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must serve at least 100k ops/s with 8 threads",
+ *      map -> map.put("key", "value") != null || map.containsKey("key"),
+ *      new RunsInThreads<>(
+ *          new ConcurrentHashMap<>(), 8, 10_000,
+ *          new HasThroughput(100_000.0)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class HasThroughput extends MatcherEnvelope<RunStatistics> {
+
+    /**
+     * Ctor.
+     * @param minimum Minimum throughput in invocations per second
+     */
+    public HasThroughput(final double minimum) {
+        this(new IsComparableGreaterThanOrEqualTo<>(minimum));
+    }
+
+    /**
+     * Ctor.
+     * @param matcher Matcher for the throughput in invocations per second
+     */
+    public HasThroughput(final Matcher<? super Double> matcher) {
+        super(
+            new MatcherOf<>(
+                stats -> matcher.matches(stats.throughput()),
+                desc -> desc
+                    .appendText("throughput in ops/s ")
+                    .appendDescriptionOf(matcher),
+                (stats, desc) -> {
+                    desc.appendText("throughput ");
+                    matcher.describeMismatch(stats.throughput(), desc);
+                    desc.appendText(" in ").appendText(stats.toString());
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+/**
+ * Histogram of durations in nanoseconds.
+ *
+ * <p>Values are kept in log-linear buckets, the same way HdrHistogram
+ * does it: every power of two is split into 64 sub-buckets, so any
+ * reported percentile is within 1.6% of the recorded value, while
+ * the memory footprint stays constant.</p>
+ *
+ * <p>There is no thread-safety guarantee: record into one histogram
+ * per thread and {@link #add(Histogram)} them together afterwards.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Histogram {
+
+    /**
+     * Bits of precision inside every power of two.
+     */
+    private static final int BITS = 7;
+
+    /**
+     * Values below this one are recorded exactly.
+     */
+    private static final long LINEAR = 1L << Histogram.BITS;
+
+    /**
+     * Sub-buckets per power of two.
+     */
+    private static final int HALF = 1 << Histogram.BITS - 1;
+
+    /**
+     * Total number of buckets.
+     */
+    private static final int BUCKETS = (Long.SIZE - Histogram.BITS + 1)
+        * Histogram.HALF;
+
+    /**
+     * Index of the number of values in totals.
+     */
+    private static final int VALUES = 0;
+
+    /**
+     * Index of the sum of values in totals.
+     */
+    private static final int SUM = 1;
+
+    /**
+     * Index of the minimum value in totals.
+     */
+    private static final int LOWEST = 2;
+
+    /**
+     * Index of the maximum value in totals.
+     */
+    private static final int HIGHEST = 3;
+
+    /**
+     * Counts per bucket.
+     */
+    private final long[] counts;
+
+    /**
+     * Number of values, their sum, minimum and maximum.
+     */
+    private final long[] totals;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this.counts = new long[Histogram.BUCKETS];
+        this.totals = new long[]{0L, 0L, Long.MAX_VALUE, 0L};
+    }
+
+    /**
+     * Record a value.
+     * @param nanos Duration in nanoseconds, negative ones count as zero
+     */
+    public void add(final long nanos) {
+        final long value = Math.max(0L, nanos);
+        this.counts[Histogram.index(value)] += 1L;
+        this.totals[Histogram.VALUES] += 1L;
+        this.totals[Histogram.SUM] += value;
+        this.totals[Histogram.LOWEST] = Math.min(
+            this.totals[Histogram.LOWEST], value
+        );
+        this.totals[Histogram.HIGHEST] = Math.max(
+            this.totals[Histogram.HIGHEST], value
+        );
+    }
+
+    /**
+     * Record all values of another histogram.
+     * @param other Histogram to merge into this one
+     */
+    public void add(final Histogram other) {
+        for (int idx = 0; idx < Histogram.BUCKETS; ++idx) {
+            this.counts[idx] += other.counts[idx];
+        }
+        this.totals[Histogram.VALUES] += other.totals[Histogram.VALUES];
+        this.totals[Histogram.SUM] += other.totals[Histogram.SUM];
+        this.totals[Histogram.LOWEST] = Math.min(
+            this.totals[Histogram.LOWEST], other.totals[Histogram.LOWEST]
+        );
+        this.totals[Histogram.HIGHEST] = Math.max(
+            this.totals[Histogram.HIGHEST], other.totals[Histogram.HIGHEST]
+        );
+    }
+
+    /**
+     * Number of recorded values.
+     * @return Count
+     */
+    public long count() {
+        return this.totals[Histogram.VALUES];
+    }
+
+    /**
+     * Smallest recorded value.
+     * @return Nanoseconds, zero when empty
+     */
+    public long min() {
+        long min = 0L;
+        if (this.totals[Histogram.VALUES] > 0L) {
+            min = this.totals[Histogram.LOWEST];
+        }
+        return min;
+    }
+
+    /**
+     * Largest recorded value.
+     * @return Nanoseconds, zero when empty
+     */
+    public long max() {
+        return this.totals[Histogram.HIGHEST];
+    }
+
+    /**
+     * Arithmetic mean of recorded values.
+     * @return Nanoseconds, zero when empty
+     */
+    public double mean() {
+        double mean = 0.0;
+        if (this.totals[Histogram.VALUES] > 0L) {
+            mean = (double) this.totals[Histogram.SUM]
+                / this.totals[Histogram.VALUES];
+        }
+        return mean;
+    }
+
+    /**
+     * Value at the given quantile.
+     * @param quantile Quantile, between 0 and 1 (e.g. 0.99 for p99)
+     * @return Nanoseconds, zero when empty
+     */
+    public long percentile(final double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException(
+                String.format("Quantile %s is not between 0 and 1", quantile)
+            );
+        }
+        final long rank = Math.max(
+            1L, (long) Math.ceil(quantile * this.totals[Histogram.VALUES])
+        );
+        long value = 0L;
+        long seen = 0L;
+        for (int idx = 0; idx < Histogram.BUCKETS; ++idx) {
+            seen += this.counts[idx];
+            if (seen >= rank) {
+                value = Math.max(
+                    this.min(),
+                    Math.min(
+                        Histogram.upper(idx), this.totals[Histogram.HIGHEST]
+                    )
+                );
+                break;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        // @checkstyle MagicNumber (10 lines)
+        return String.format(
+            "count=%d, min=%s, p50=%s, p90=%s, p99=%s, p999=%s, max=%s",
+            this.count(),
+            new Nanos(this.min()),
+            new Nanos(this.percentile(0.5)),
+            new Nanos(this.percentile(0.9)),
+            new Nanos(this.percentile(0.99)),
+            new Nanos(this.percentile(0.999)),
+            new Nanos(this.max())
+        );
+    }
+
+    /**
+     * Bucket of the value.
+     * @param value Non-negative value
+     * @return Index of the bucket
+     */
+    private static int index(final long value) {
+        final int idx;
+        if (value < Histogram.LINEAR) {
+            idx = (int) value;
+        } else {
+            final int shift = Long.SIZE - Histogram.BITS
+                - Long.numberOfLeadingZeros(value);
+            idx = shift * Histogram.HALF + (int) (value >>> shift);
+        }
+        return idx;
+    }
+
+    /**
+     * Highest value that falls into the bucket.
+     * @param idx Index of the bucket
+     * @return Value
+     */
+    private static long upper(final int idx) {
+        final long value;
+        if (idx < Histogram.LINEAR) {
+            value = idx;
+        } else {
+            final int shift = idx / Histogram.HALF - 1;
+            final long mantissa = idx % Histogram.HALF + Histogram.HALF;
+            value = (mantissa + 1L << shift) - 1L;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for a concurrent object that must be linearizable.
+ *
+ * <p>Every thread applies its own sequence of {@link Operation}s to the
+ * object, all threads at once, and the invocation time, response time
+ * and result of every operation are recorded. The history must then be
+ * explained by some order of the operations that respects their real
+ * time order and gives the same results on the sequential model of the
+ * object. If there is none, the mismatch shows the smallest part of the
+ * history that is not linearizable either: the operations up to the
+ * first one that can not be explained, and all operations that overlap
+ * them. Each object is checked once per match, and the mismatch of
+ * that check is reused to describe it.</p>
+ *
+ * <p>Here is an example how {@link IsLinearizable} can be used, where
+ * {@code Increment} is an {@link Operation} that calls
+ * {@code incrementAndGet()} and whose model is an {@code Integer}:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must be linearizable",
+ *      new AtomicInteger(),
+ *      new IsLinearizable<>(
+ *          0,
+ *          new ListOf<>(
+ *              new ListOf<>(new Increment(), new Increment()),
+ *              new ListOf<>(new Increment(), new Increment())
+ *          )
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of the concurrent object
+ * @param <S> Type of the state of the model
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class IsLinearizable<T, S> extends TypeSafeDiagnosingMatcher<T> {
+
+    /**
+     * How many calls of the failing prefix to show.
+     */
+    private static final int SHOWN = 16;
+
+    /**
+     * Initial state of the model.
+     */
+    private final S initial;
+
+    /**
+     * Operations of every thread.
+     */
+    private final Iterable<? extends Iterable<? extends Operation<T, S>>> programs;
+
+    /**
+     * Timeout of the whole run in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<T> verdicts;
+
+    /**
+     * Ctor.
+     * @param initial Initial state of the model
+     * @param programs Operations of every thread
+     */
+    public IsLinearizable(
+        final S initial,
+        final Iterable<? extends Iterable<? extends Operation<T, S>>> programs
+    ) {
+        this(initial, programs, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param initial Initial state of the model
+     * @param programs Operations of every thread
+     * @param millis Timeout of the whole run in milliseconds
+     */
+    public IsLinearizable(
+        final S initial,
+        final Iterable<? extends Iterable<? extends Operation<T, S>>> programs,
+        final long millis
+    ) {
+        super();
+        this.initial = initial;
+        this.programs = programs;
+        this.timeout = millis;
+        this.verdicts = new Verdicts<>(this::checked);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("linearizable history starting from ")
+            .appendValue(this.initial);
+    }
+
+    @Override
+    protected boolean matchesSafely(final T object, final Description desc) {
+        return this.verdicts.matches(object, desc);
+    }
+
+    /**
+     * Run the operations on the object and check their history.
+     * @param object The object
+     * @param desc Where to describe the mismatch
+     * @return Whether the history is linearizable
+     */
+    private boolean checked(final T object, final Description desc) {
+        final List<Iterable<? extends Operation<T, S>>> threads =
+            new ArrayList<>(0);
+        for (final Iterable<? extends Operation<T, S>> program : this.programs) {
+            threads.add(program);
+        }
+        final Collection<Call<T, S>> calls = new ConcurrentLinkedQueue<>();
+        final AtomicInteger ticket = new AtomicInteger();
+        boolean matches;
+        try {
+            new Workers<>(object, threads.size(), 1, this.timeout).run(
+                input -> {
+                    final int thread = ticket.getAndIncrement();
+                    for (final Operation<T, S> operation : threads.get(thread)) {
+                        final long start = System.nanoTime();
+                        final Object result = operation.apply(input);
+                        calls.add(
+                            new Call<>(
+                                thread, operation,
+                                start, System.nanoTime(), result
+                            )
+                        );
+                    }
+                    return true;
+                }
+            );
+            matches = this.linearizable(new ArrayList<>(calls), desc);
+        } catch (final TimeoutException ex) {
+            desc.appendText(ex.getMessage());
+            matches = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        return matches;
+    }
+
+    /**
+     * Check the history.
+     * @param calls Calls of the history
+     * @param desc Description of the mismatch
+     * @return Whether it is linearizable
+     * @throws Exception If the model fails
+     */
+    private boolean linearizable(
+        final List<Call<T, S>> calls, final Description desc
+    ) throws Exception {
+        calls.sort(Comparator.comparingLong(Call::invoked));
+        final Linearizability<T, S> check = new Linearizability<>(this.initial);
+        final boolean matches = check.holds(calls);
+        if (!matches) {
+            final List<Call<T, S>> prefix = check.minimal(calls);
+            desc.appendText("history of ")
+                .appendValue(calls.size())
+                .appendText(" operations is not linearizable, nor its first ")
+                .appendValue(prefix.size())
+                .appendText(":");
+            final int skipped = Math.max(0, prefix.size() - IsLinearizable.SHOWN);
+            if (skipped > 0) {
+                desc.appendText(System.lineSeparator())
+                    .appendText("(")
+                    .appendValue(skipped)
+                    .appendText(" earlier ones)");
+            }
+            final long origin = calls.get(0).invoked();
+            for (final Call<T, S> call : prefix.subList(skipped, prefix.size())) {
+                desc.appendText(System.lineSeparator())
+                    .appendText(call.describe(origin));
+            }
+        }
+        return matches;
+    }
+}
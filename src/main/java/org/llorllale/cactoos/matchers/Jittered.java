@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+import org.cactoos.Func;
+
+/**
+ * Func that pauses randomly before and after its origin.
+ *
+ * <p>Every thread draws from its own random stream, split from the seed,
+ * and before and after every invocation either yields, waits for up to
+ * 10 microseconds, parks for up to 100 microseconds or goes on.</p>
+ *
+ * <p>A wait spins on {@link System#nanoTime()} for at most one microsecond
+ * and parks for the rest of it. The spin has no pause hint, because
+ * {@code Thread.onSpinWait()} does not exist on Java 8, so it is kept too
+ * short to starve the sibling hyper-thread.</p>
+ *
+ * <p>There is no thread-safety guarantee beyond the one of the origin.
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ */
+final class Jittered<T> implements Func<T, Boolean> {
+
+    /**
+     * Longest wait in nanoseconds.
+     */
+    private static final int WAIT = 10_000;
+
+    /**
+     * Longest spin in nanoseconds, longer waits park.
+     */
+    private static final long SPIN = 1_000L;
+
+    /**
+     * Longest park in nanoseconds.
+     */
+    private static final int PARK = 100_000;
+
+    /**
+     * The func to perturb.
+     */
+    private final Func<? super T, Boolean> origin;
+
+    /**
+     * Random stream of the current thread.
+     */
+    private final ThreadLocal<SplittableRandom> random;
+
+    /**
+     * Ctor.
+     * @param seed Seed of the random pauses
+     * @param func The func to perturb
+     */
+    Jittered(final long seed, final Func<? super T, Boolean> func) {
+        this(func, new SplittableRandom(seed));
+    }
+
+    /**
+     * Ctor.
+     * @param func The func to perturb
+     * @param base Random stream to split for every thread
+     */
+    private Jittered(
+        final Func<? super T, Boolean> func, final SplittableRandom base
+    ) {
+        this.origin = func;
+        this.random = ThreadLocal.withInitial(() -> Jittered.split(base));
+    }
+
+    @Override
+    public Boolean apply(final T input) throws Exception {
+        this.pause();
+        final Boolean result = this.origin.apply(input);
+        this.pause();
+        return result;
+    }
+
+    /**
+     * Pause the current thread randomly.
+     */
+    private void pause() {
+        final SplittableRandom rnd = this.random.get();
+        final int choice = rnd.nextInt(4);
+        if (choice == 0) {
+            Thread.yield();
+        } else if (choice == 1) {
+            Jittered.await(rnd.nextInt(Jittered.WAIT));
+        } else if (choice == 2) {
+            LockSupport.parkNanos(rnd.nextInt(Jittered.PARK));
+        }
+    }
+
+    /**
+     * Wait, spinning for the start of it and parking for the rest.
+     * @param nanos Nanoseconds to wait
+     */
+    private static void await(final long nanos) {
+        final long start = System.nanoTime();
+        final long end = start + Math.min(nanos, Jittered.SPIN);
+        long now = start;
+        while (now < end) {
+            now = System.nanoTime();
+        }
+        if (nanos > Jittered.SPIN) {
+            LockSupport.parkNanos(nanos - (now - start));
+        }
+    }
+
+    /**
+     * Split a random stream for a new thread.
+     * @param base Random stream to split
+     * @return New random stream
+     */
+    private static SplittableRandom split(final SplittableRandom base) {
+        synchronized (base) {
+            return base.split();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a {@link Func} does not leak resources of the
+ * JVM, read by {@link Gauge}s before and after it is invoked.
+ *
+ * <p>Resources of unreachable objects are released only once they are
+ * garbage collected, so while any of them grew by more than its
+ * tolerance, the garbage collector is run and the resources read again,
+ * a bounded number of times. Each {@link Func} is run once per match,
+ * and the mismatch of that run is reused to describe it.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+final class Leak<T> extends TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * How long to let resources be released after each collection, in
+     * nanoseconds.
+     */
+    private static final long WAIT = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Resources that must not leak.
+     */
+    private final List<Gauge> gauges;
+
+    /**
+     * Garbage collections to try.
+     */
+    private final int attempts;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param gauges Resources that must not leak
+     * @param attempts Garbage collections to try
+     */
+    Leak(final T object, final List<Gauge> gauges, final int attempts) {
+        super();
+        this.input = object;
+        this.gauges = gauges;
+        this.attempts = attempts;
+        this.verdicts = new Verdicts<>(this::released);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("leaks");
+        String separator = " ";
+        for (final Gauge gauge : this.gauges) {
+            desc.appendText(separator)
+                .appendText("at most ")
+                .appendValue(gauge.tolerance())
+                .appendText(" ")
+                .appendText(gauge.name());
+            separator = " and ";
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Run the func and check that it released the resources.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether it released them
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean released(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final long[] before = this.values();
+        try {
+            func.apply(this.input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        long[] after = this.values();
+        int collections = 0;
+        while (this.exceeded(before, after) && collections < this.attempts) {
+            System.gc();
+            LockSupport.parkNanos(Leak.WAIT);
+            ++collections;
+            after = this.values();
+        }
+        final boolean matches = !this.exceeded(before, after);
+        if (!matches) {
+            desc.appendText("leaked ");
+            String separator = "";
+            for (int idx = 0; idx < this.gauges.size(); ++idx) {
+                final Gauge gauge = this.gauges.get(idx);
+                if (gauge.exceeded(before[idx], after[idx])) {
+                    desc.appendText(separator)
+                        .appendValue(after[idx] - before[idx])
+                        .appendText(" ")
+                        .appendText(gauge.name())
+                        .appendText(
+                            String.format(
+                                ", from %d to %d", before[idx], after[idx]
+                            )
+                        );
+                    separator = " and ";
+                }
+            }
+            desc.appendText(" after ")
+                .appendValue(collections)
+                .appendText(" garbage collections");
+        }
+        return matches;
+    }
+
+    /**
+     * Read all the resources.
+     * @return Current values
+     */
+    private long[] values() {
+        final long[] values = new long[this.gauges.size()];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = this.gauges.get(idx).value();
+        }
+        return values;
+    }
+
+    /**
+     * Whether any resource grew by more than its tolerance.
+     * @param before Values before
+     * @param after Values after
+     * @return True if any did
+     */
+    private boolean exceeded(final long[] before, final long[] after) {
+        boolean exceeded = false;
+        for (int idx = 0; idx < before.length; ++idx) {
+            exceeded = exceeded
+                || this.gauges.get(idx).exceeded(before[idx], after[idx]);
+        }
+        return exceeded;
+    }
+}
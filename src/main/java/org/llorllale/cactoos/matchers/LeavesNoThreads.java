@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a {@link Func} leaves no threads running.
+ *
+ * <p>The live threads are snapshot before the {@link Func} is invoked in
+ * the current thread, and then again, until the threads it started have
+ * terminated or a grace period for their orderly termination is over.
+ * Threads that are not daemons count as leaked, and so do threads of
+ * pools, i.e. named by the default thread factory of
+ * {@link java.util.concurrent.Executors} or workers of a fork-join pool
+ * other than the common one, which lives as long as the JVM. Their
+ * names and stacks are described on mismatch. Each {@link Func} is run
+ * once per match, and the mismatch of that run is reused to describe
+ * it.</p>
+ *
+ * <p>Here is an example how {@link LeavesNoThreads} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must shut down its pool when closed",
+ *      (Func<Client, Boolean>) client -> {
+ *          client.send(request);
+ *          client.close();
+ *          return true;
+ *      },
+ *      new LeavesNoThreads<>(new Client(uri))
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class LeavesNoThreads<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * Time between snapshots, in nanoseconds.
+     */
+    private static final long PERIOD = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Grace period in milliseconds.
+     */
+    private final long grace;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     */
+    public LeavesNoThreads(final T object) {
+        // @checkstyle MagicNumber (1 line)
+        this(object, 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param millis Grace period for threads to terminate in milliseconds
+     */
+    public LeavesNoThreads(final T object, final long millis) {
+        super();
+        this.input = object;
+        this.grace = millis;
+        this.verdicts = new Verdicts<>(this::terminated);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("leaves no threads running after ")
+            .appendValue(this.grace)
+            .appendText(" milliseconds");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Run the func and wait for the threads it started to terminate.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether they all terminated
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean terminated(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final Set<Thread> before =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+        before.addAll(Thread.getAllStackTraces().keySet());
+        try {
+            func.apply(this.input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        final long start = System.nanoTime();
+        final long deadline = TimeUnit.MILLISECONDS.toNanos(this.grace);
+        List<Thread> leaked = LeavesNoThreads.leaked(before);
+        while (!leaked.isEmpty() && System.nanoTime() - start < deadline) {
+            LockSupport.parkNanos(LeavesNoThreads.PERIOD);
+            leaked = LeavesNoThreads.leaked(before);
+        }
+        final boolean matches = leaked.isEmpty();
+        if (!matches) {
+            final Collection<Long> ids = new ArrayList<>(leaked.size());
+            for (final Thread thread : leaked) {
+                ids.add(thread.getId());
+            }
+            desc.appendText("leaked ")
+                .appendValue(leaked.size())
+                .appendText(" threads:")
+                .appendText(
+                    new ThreadDump(
+                        ManagementFactory.getThreadMXBean(), ids
+                    ).toString()
+                );
+        }
+        return matches;
+    }
+
+    /**
+     * Live threads that were not alive before and count as leaked.
+     * @param before Threads alive before
+     * @return Leaked threads
+     */
+    private static List<Thread> leaked(final Set<Thread> before) {
+        final List<Thread> leaked = new ArrayList<>(0);
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && !before.contains(thread)
+                && (!thread.isDaemon() || LeavesNoThreads.pooled(thread))) {
+                leaked.add(thread);
+            }
+        }
+        return leaked;
+    }
+
+    /**
+     * Whether a thread belongs to a pool.
+     * @param thread The thread
+     * @return True if it does
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static boolean pooled(final Thread thread) {
+        return thread.getName().startsWith("pool-")
+            || thread instanceof ForkJoinWorkerThread
+            && ((ForkJoinWorkerThread) thread).getPool()
+                != ForkJoinPool.commonPool();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Linearizability check of a history of calls against a sequential model.
+ *
+ * <p>This is the search of Wing and Gong, with the pruning of Lowe: the
+ * calls are linearized one by one, trying only the calls that were
+ * invoked before any pending call returned, and every pair of linearized
+ * calls and model state is visited only once.</p>
+ *
+ * @param <T> Type of the concurrent object
+ * @param <S> Type of the state of the model
+ * @since 1.0.0
+ */
+final class Linearizability<T, S> {
+
+    /**
+     * Initial state of the model.
+     */
+    private final S initial;
+
+    /**
+     * Ctor.
+     * @param initial Initial state of the model
+     */
+    Linearizability(final S initial) {
+        this.initial = initial;
+    }
+
+    /**
+     * Whether the history is linearizable.
+     * @param calls Calls, sorted by invocation time
+     * @return True if it is
+     * @throws Exception If the model fails
+     */
+    boolean holds(final List<Call<T, S>> calls) throws Exception {
+        final int size = calls.size();
+        final Set<Map.Entry<BitSet, S>> seen = new HashSet<>(0);
+        final Deque<Frame<T, S>> stack = new ArrayDeque<>(size);
+        stack.push(new Frame<>(new BitSet(size), this.initial, calls));
+        boolean holds = size == 0;
+        while (!holds && !stack.isEmpty()) {
+            final Frame<T, S> frame = stack.peek();
+            final int next = frame.candidate(calls);
+            if (next < 0) {
+                stack.pop();
+            } else if (calls.get(next).legal(frame.state)) {
+                final BitSet done = (BitSet) frame.done.clone();
+                done.set(next);
+                final S state = calls.get(next).next(frame.state);
+                holds = done.cardinality() == size;
+                if (seen.add(new AbstractMap.SimpleImmutableEntry<>(done, state))) {
+                    stack.push(new Frame<>(done, state, calls));
+                }
+            }
+        }
+        return holds;
+    }
+
+    /**
+     * Shortest prefix of a history that is not linearizable.
+     *
+     * <p>The prefix contains every call invoked before any of its calls
+     * returned, since such a call could be linearized before it: that is
+     * why it can not be linearizable if the prefix is not. Removing
+     * arbitrary calls instead would change the state of the model that
+     * the other calls see.</p>
+     *
+     * @param calls Calls of a history that is not linearizable, sorted by
+     *  invocation time
+     * @return Calls of the prefix, sorted by invocation time
+     * @throws Exception If the model fails
+     */
+    List<Call<T, S>> minimal(final List<Call<T, S>> calls) throws Exception {
+        int low = 1;
+        int high = calls.size();
+        while (low < high) {
+            final int middle = low + high >>> 1;
+            if (this.holds(Linearizability.prefix(calls, middle))) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return Linearizability.prefix(calls, high);
+    }
+
+    /**
+     * First calls of a history, with every call invoked before any of
+     * them returned.
+     * @param calls All calls, sorted by invocation time
+     * @param count How many calls to start with
+     * @param <T> Type of the concurrent object
+     * @param <S> Type of the state of the model
+     * @return Calls of the prefix
+     */
+    private static <T, S> List<Call<T, S>> prefix(
+        final List<Call<T, S>> calls, final int count
+    ) {
+        long cutoff = Long.MIN_VALUE;
+        for (final Call<T, S> call : calls.subList(0, count)) {
+            cutoff = Math.max(cutoff, call.returned());
+        }
+        int end = count;
+        while (end < calls.size() && calls.get(end).invoked() <= cutoff) {
+            cutoff = Math.max(cutoff, calls.get(end).returned());
+            ++end;
+        }
+        return calls.subList(0, end);
+    }
+
+    /**
+     * Step of the search: calls linearized so far, the state of the model
+     * they lead to, and the calls left to try next.
+     *
+     * @param <T> Type of the concurrent object
+     * @param <S> Type of the state of the model
+     * @since 1.0.0
+     */
+    private static final class Frame<T, S> {
+
+        /**
+         * Indexes of the calls linearized so far.
+         */
+        private final BitSet done;
+
+        /**
+         * State of the model after them.
+         */
+        private final S state;
+
+        /**
+         * Earliest response of the pending calls: calls invoked after it
+         * can not come next.
+         */
+        private final long bound;
+
+        /**
+         * Index of the next call to try.
+         */
+        private int cursor;
+
+        /**
+         * Ctor.
+         * @param done Indexes of the calls linearized so far
+         * @param state State of the model after them
+         * @param calls All calls, sorted by invocation time
+         */
+        Frame(final BitSet done, final S state, final List<Call<T, S>> calls) {
+            this(done, state, Frame.earliest(done, calls));
+        }
+
+        /**
+         * Ctor.
+         * @param done Indexes of the calls linearized so far
+         * @param state State of the model after them
+         * @param bound Earliest response of the pending calls
+         */
+        Frame(final BitSet done, final S state, final long bound) {
+            this.done = done;
+            this.state = state;
+            this.bound = bound;
+            this.cursor = 0;
+        }
+
+        /**
+         * Next pending call that can be linearized now.
+         * @param calls All calls, sorted by invocation time
+         * @return Its index, or -1 if there are none left
+         */
+        int candidate(final List<Call<T, S>> calls) {
+            int found = -1;
+            while (found < 0 && this.cursor < calls.size()
+                && calls.get(this.cursor).invoked() <= this.bound) {
+                if (!this.done.get(this.cursor)) {
+                    found = this.cursor;
+                }
+                ++this.cursor;
+            }
+            return found;
+        }
+
+        /**
+         * Earliest response of the pending calls.
+         * @param done Indexes of the calls linearized so far
+         * @param calls All calls
+         * @param <T> Type of the concurrent object
+         * @param <S> Type of the state of the model
+         * @return Nanoseconds
+         */
+        private static <T, S> long earliest(
+            final BitSet done, final List<Call<T, S>> calls
+        ) {
+            long earliest = Long.MAX_VALUE;
+            for (int idx = done.nextClearBit(0); idx < calls.size();
+                idx = done.nextClearBit(idx + 1)) {
+                earliest = Math.min(earliest, calls.get(idx).returned());
+            }
+            return earliest;
+        }
+    }
+}
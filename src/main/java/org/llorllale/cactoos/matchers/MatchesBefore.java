@@ -26,17 +26,45 @@
  */
 package org.llorllale.cactoos.matchers;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import org.cactoos.func.Timed;
+import java.util.concurrent.atomic.AtomicReference;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
 
 /**
  * Matcher to check that scalar finishes before some timeout.
  *
  * This is a {@link Matcher} alternative to JUnit's {@code Timeout} annotation.
  *
+ * <p>The matcher is evaluated on an executor shared by all instances,
+ * so no thread is created per evaluation. When the timeout is over, the
+ * stack trace of the evaluating thread is captured into the mismatch
+ * description, to show where it got stuck, and the thread is
+ * interrupted.</p>
+ *
+ * <p>A single run is dominated by class loading and the interpreter, so
+ * short durations are better checked in the warmed-up mode: the matcher
+ * runs a number of times to warm up, then a number of times more, each
+ * of them timed into a {@link Histogram}, which must match a matcher like
+ * {@link HasPercentile}. The timeout still applies to all of the runs
+ * together. The runs happen once per match, and the mismatch of a
+ * failed match is described from those same runs.</p>
+ *
+ * <p>Wall clock time is noisy on busy machines, so the timed runs can
+ * measure the CPU time of the evaluating thread instead. Then both are
+ * reported on mismatch, and the matcher is evaluated on a platform
+ * thread, since the JVM does not account CPU time of virtual
+ * threads. Measuring CPU time is turned on for the whole JVM the first
+ * time it is needed, and left on, so that concurrent evaluations never
+ * turn it off under each other.</p>
+ *
  * <p>Here is an example how {@link MatchesBefore} can be used:</p>
  * <pre>{@code
  *  new Assertion<>(
@@ -49,16 +77,33 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  *  ).affirm();
  * }</pre>
  *
+ * <p>Here is an example of the warmed-up mode:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *       "must run in 50 microseconds at p99 once warmed up",
+ *       new TextOf("test"),
+ *       new MatchesBefore<>(
+ *           10_000L, 1000, 1000,
+ *           new HasPercentile(0.99, 50L, TimeUnit.MICROSECONDS),
+ *           new TextIs("test")
+ *       )
+ *  ).affirm();
+ * }</pre>
+ *
  * @param <T> Type of the scalar's value
  * @since 1.0.0
  */
-@SuppressWarnings("PMD.AvoidCatchingGenericException")
 public final class MatchesBefore<T> extends TypeSafeDiagnosingMatcher<T> {
     /**
      * Time unit.
      */
     private static final String TIME_UNIT = "milliseconds";
 
+    /**
+     * Prefix of descriptions of CPU time.
+     */
+    private static final String CPU_TIME = "CPU time ";
+
     /**
      * Timeout in milliseconds.
      */
@@ -69,15 +114,80 @@ public final class MatchesBefore<T> extends TypeSafeDiagnosingMatcher<T> {
      */
     private final Matcher<? super T> matcher;
 
+    /**
+     * Runs to warm up.
+     */
+    private final int warmup;
+
+    /**
+     * Timed runs.
+     */
+    private final int iterations;
+
+    /**
+     * Matcher for the durations of the timed runs.
+     */
+    private final Matcher<? super Histogram> timing;
+
+    /**
+     * Whether to time CPU time of the evaluating thread.
+     */
+    private final boolean cpu;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<T> verdicts;
+
     /**
      * Ctor.
      * @param mllsc Timeout.
      * @param mtchr Matcher.
      */
     public MatchesBefore(final long mllsc, final Matcher<? super T> mtchr) {
+        this(mllsc, 0, 1, new IsAnything<>(), mtchr);
+    }
+
+    /**
+     * Ctor.
+     * @param mllsc Timeout of all runs together.
+     * @param warmup Runs to warm up.
+     * @param iterations Timed runs.
+     * @param timing Matcher for the durations of the timed runs.
+     * @param mtchr Matcher.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public MatchesBefore(
+        final long mllsc, final int warmup, final int iterations,
+        final Matcher<? super Histogram> timing, final Matcher<? super T> mtchr
+    ) {
+        this(mllsc, warmup, iterations, false, timing, mtchr);
+    }
+
+    /**
+     * Ctor.
+     * @param mllsc Timeout of all runs together.
+     * @param warmup Runs to warm up.
+     * @param iterations Timed runs.
+     * @param cpu Whether to time CPU time of the evaluating thread instead
+     *  of wall clock time.
+     * @param timing Matcher for the durations of the timed runs.
+     * @param mtchr Matcher.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public MatchesBefore(
+        final long mllsc, final int warmup, final int iterations,
+        final boolean cpu, final Matcher<? super Histogram> timing,
+        final Matcher<? super T> mtchr
+    ) {
         super();
         this.millisec = mllsc;
         this.matcher = mtchr;
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.timing = timing;
+        this.cpu = cpu;
+        this.verdicts = new Verdicts<>(this::evaluated);
     }
 
     @Override
@@ -88,6 +198,17 @@ public final class MatchesBefore<T> extends TypeSafeDiagnosingMatcher<T> {
             .appendValue(this.millisec)
             .appendText(" ")
             .appendText(MatchesBefore.TIME_UNIT);
+        if (this.warmup > 0 || this.iterations > 1) {
+            desc.appendText(", timed ")
+                .appendValue(this.iterations)
+                .appendText(" times after ")
+                .appendValue(this.warmup)
+                .appendText(" warmup runs with ");
+            if (this.cpu) {
+                desc.appendText(MatchesBefore.CPU_TIME);
+            }
+            desc.appendDescriptionOf(this.timing);
+        }
     }
 
     // @checkstyle ProtectedMethodInFinalClassCheck (3 lines)
@@ -95,21 +216,131 @@ public final class MatchesBefore<T> extends TypeSafeDiagnosingMatcher<T> {
     protected boolean matchesSafely(
         final T item, final Description desc
     ) {
+        return this.verdicts.matches(item, desc);
+    }
+
+    /**
+     * Evaluate the matcher on the shared executor, within the timeout.
+     * @param item Item to match
+     * @param desc Where to describe the mismatch
+     * @return Whether it matched, and in time
+     */
+    private boolean evaluated(final T item, final Description desc) {
         boolean matches = false;
+        final Histogram wall = new Histogram();
+        final Histogram durations;
+        if (this.cpu) {
+            durations = new Histogram();
+        } else {
+            durations = wall;
+        }
+        final AtomicReference<Thread> worker = new AtomicReference<>();
+        final Future<Boolean> future = new SharedExecutor(this.cpu).submit(
+            () -> {
+                worker.set(Thread.currentThread());
+                try {
+                    return this.timed(item, wall, durations);
+                } finally {
+                    worker.set(null);
+                }
+            }
+        );
         try {
-            matches = new Timed<>(this.matcher::matches, this.millisec).apply(item);
+            matches = future.get(this.millisec, TimeUnit.MILLISECONDS);
             if (!matches) {
                 this.matcher.describeMismatch(item, desc);
+            } else if (!this.timing.matches(durations)) {
+                if (this.cpu) {
+                    desc.appendText(MatchesBefore.CPU_TIME);
+                }
+                this.timing.describeMismatch(durations, desc);
+                if (this.cpu) {
+                    desc.appendText(", wall clock time ")
+                        .appendText(wall.toString());
+                }
+                matches = false;
             }
         } catch (final TimeoutException texc) {
             desc.appendText("Timeout after ")
                 .appendValue(this.millisec)
                 .appendText(" ")
-                .appendText(MatchesBefore.TIME_UNIT);
-            // @checkstyle IllegalCatchCheck (1 line)
-        } catch (final Exception ex) {
+                .appendText(MatchesBefore.TIME_UNIT)
+                .appendText(MatchesBefore.stack(worker.get()));
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
             throw new IllegalStateException(ex);
+        } finally {
+            future.cancel(true);
         }
         return matches;
     }
+
+    /**
+     * Warm up and then run the matcher, timing every run.
+     * @param item Item to match
+     * @param wall Where to record the wall clock durations
+     * @param durations Where to record the timed durations
+     * @return Whether all runs matched
+     */
+    private boolean timed(
+        final T item, final Histogram wall, final Histogram durations
+    ) {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (this.cpu && !threads.isCurrentThreadCpuTimeSupported()) {
+            throw new IllegalStateException(
+                "CPU time of threads is not supported by this JVM"
+            );
+        }
+        if (this.cpu && !threads.isThreadCpuTimeEnabled()) {
+            threads.setThreadCpuTimeEnabled(true);
+        }
+        boolean matches = true;
+        for (int idx = 0; idx < this.warmup; ++idx) {
+            matches = this.matcher.matches(item) && matches;
+        }
+        for (int idx = 0; idx < this.iterations; ++idx) {
+            final long spent = this.spent(threads);
+            final long start = System.nanoTime();
+            final boolean result = this.matcher.matches(item);
+            wall.add(System.nanoTime() - start);
+            if (this.cpu) {
+                durations.add(this.spent(threads) - spent);
+            }
+            matches = matches && result;
+        }
+        return matches;
+    }
+
+    /**
+     * CPU time of the current thread, if it is timed.
+     * @param threads Thread management
+     * @return Nanoseconds, or zero if wall clock time is timed
+     */
+    private long spent(final ThreadMXBean threads) {
+        long spent = 0L;
+        if (this.cpu) {
+            spent = threads.getCurrentThreadCpuTime();
+        }
+        return spent;
+    }
+
+    /**
+     * Where a thread is, as text.
+     * @param thread The thread, or null if it is not evaluating any more
+     * @return Its stack trace, or empty text
+     */
+    private static String stack(final Thread thread) {
+        final StringBuilder text = new StringBuilder(0);
+        if (thread != null) {
+            text.append(", stuck in \"").append(thread.getName())
+                .append("\" at:");
+            for (final StackTraceElement frame : thread.getStackTrace()) {
+                text.append(System.lineSeparator())
+                    .append("\tat ").append(frame);
+            }
+        }
+        return text.toString();
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Locale;
+
+/**
+ * Human readable duration given in nanoseconds.
+ *
+ * <p>Prints the duration in the biggest unit (ns, us, ms or s) in which
+ * it is at least one, e.g. {@code 1500000} is printed as {@code 1.500ms}.
+ *
+ * @since 1.0.0
+ */
+final class Nanos {
+
+    /**
+     * Units, from the biggest one, each a thousand times the next one.
+     */
+    private static final String[] UNITS = {"s", "ms", "us"};
+
+    /**
+     * Duration in nanoseconds.
+     */
+    private final long value;
+
+    /**
+     * Ctor.
+     * @param nanos Duration in nanoseconds
+     */
+    Nanos(final long nanos) {
+        this.value = nanos;
+    }
+
+    @Override
+    public String toString() {
+        String text = String.format("%dns", this.value);
+        // @checkstyle MagicNumber (1 line)
+        double size = 1.0e9;
+        for (final String unit : Nanos.UNITS) {
+            if (Math.abs(this.value) >= size) {
+                text = String.format(
+                    Locale.ENGLISH, "%.3f%s", this.value / size, unit
+                );
+                break;
+            }
+            // @checkstyle MagicNumber (1 line)
+            size /= 1000.0;
+        }
+        return text;
+    }
+}
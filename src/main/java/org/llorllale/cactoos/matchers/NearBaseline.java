@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a measured figure is not more than a tolerance
+ * worse than its {@link Baseline}, where better is either higher or
+ * lower.
+ *
+ * <p>The baseline is read, or recorded, once per match, and the mismatch
+ * of a figure is described against the baseline it was matched with.
+ * The deviation is described as a percentage of the baseline, unless the
+ * baseline is zero, which any figure on its worse side fails.</p>
+ *
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+final class NearBaseline extends TypeSafeDiagnosingMatcher<Number> {
+
+    /**
+     * Baseline.
+     */
+    private final Baseline baseline;
+
+    /**
+     * Tolerated deviation from the baseline, as a fraction of it.
+     */
+    private final double tolerance;
+
+    /**
+     * Direction of better figures, 1 if higher ones are better and -1 if
+     * lower ones are.
+     */
+    private final double direction;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Number> verdicts;
+
+    /**
+     * Ctor.
+     * @param baseline Baseline
+     * @param tolerance Tolerated deviation from the baseline, as a
+     *  fraction of it
+     * @param direction Direction of better figures, 1 if higher ones are
+     *  better and -1 if lower ones are
+     */
+    NearBaseline(
+        final Baseline baseline,
+        final double tolerance,
+        final double direction
+    ) {
+        super();
+        this.baseline = baseline;
+        this.tolerance = tolerance;
+        this.direction = direction;
+        this.verdicts = new Verdicts<>(this::compared);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("not more than ")
+            .appendText(new Percent(this.tolerance).toString())
+            .appendText(" ")
+            .appendText(this.worse())
+            .appendText(" the baseline ")
+            .appendText(this.baseline.toString());
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Number measured, final Description desc
+    ) {
+        return this.verdicts.matches(measured, desc);
+    }
+
+    /**
+     * Compare the figure to the baseline.
+     * @param measured Measured figure
+     * @param desc Where to describe the mismatch
+     * @return Whether it is within the tolerance
+     */
+    private boolean compared(final Number measured, final Description desc) {
+        final double figure = measured.doubleValue();
+        final double value = this.baseline.value(figure);
+        final boolean matches = this.direction * (figure - value)
+            >= -this.tolerance * value;
+        if (!matches) {
+            desc.appendValue(measured).appendText(" is ");
+            if (value != 0.0) {
+                desc.appendText(
+                    new Percent(
+                        this.direction * (1.0 - figure / value)
+                    ).toString()
+                ).appendText(" ");
+            }
+            desc.appendText(this.worse())
+                .appendText(" the baseline ")
+                .appendValue(value);
+        }
+        return matches;
+    }
+
+    /**
+     * Which side of the baseline is worse.
+     * @return Text
+     */
+    private String worse() {
+        final String side;
+        if (this.direction > 0.0) {
+            side = "below";
+        } else {
+            side = "above";
+        }
+        return side;
+    }
+}
@@ -0,0 +1,523 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sizes and references of objects, as laid out by the running JVM.
+ *
+ * <p>Offsets of fields, sizes of object headers and of array elements are
+ * taken from {@code sun.misc.Unsafe}, which is looked up reflectively,
+ * and the alignment of objects from the {@code ObjectAlignmentInBytes}
+ * option of the JVM. Where they are not available, e.g. for hidden
+ * classes, the size is estimated as the sum of the fields, assuming
+ * compressed references.</p>
+ *
+ * <p>References are read through reflection where the fields can be made
+ * accessible, and from memory otherwise, e.g. in the classes of the JDK,
+ * which are not open to reflection since Java 9. Referents of
+ * {@link Reference}s are not followed, since they are not retained by
+ * them.</p>
+ *
+ * @since 1.0.0
+ */
+final class ObjectLayout {
+
+    /**
+     * Shapes of classes.
+     */
+    private static final ClassValue<Shape> SHAPES = new ClassValue<Shape>() {
+        @Override
+        protected Shape computeValue(final Class<?> type) {
+            return ObjectLayout.shape(type);
+        }
+    };
+
+    /**
+     * Size of an object, without the objects it refers to.
+     * @param object The object
+     * @return Size in bytes
+     */
+    long size(final Object object) {
+        final Class<?> type = object.getClass();
+        final long size;
+        if (type.isArray()) {
+            size = Memory.aligned(
+                Memory.base(type)
+                    + Array.getLength(object) * Memory.scale(type)
+            );
+        } else {
+            size = ObjectLayout.SHAPES.get(type).size;
+        }
+        return size;
+    }
+
+    /**
+     * Objects an object refers to.
+     * @param object The object
+     * @param found Where to add the objects, except nulls
+     */
+    void references(final Object object, final Collection<Object> found) {
+        final Class<?> type = object.getClass();
+        if (type.isArray()) {
+            if (!type.getComponentType().isPrimitive()) {
+                for (final Object item : (Object[]) object) {
+                    if (item != null) {
+                        found.add(item);
+                    }
+                }
+            }
+        } else {
+            ObjectLayout.SHAPES.get(type).references(object, found);
+        }
+    }
+
+    /**
+     * How an object refers to another one.
+     * @param object The object
+     * @param target The object it refers to
+     * @return Name of the field, e.g. {@code .items}, or index of the
+     *  element, e.g. {@code [3]}, or empty if it does not refer to it
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    String link(final Object object, final Object target) {
+        final Class<?> type = object.getClass();
+        String link = "";
+        if (type.isArray()) {
+            if (!type.getComponentType().isPrimitive()) {
+                final Object[] items = (Object[]) object;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    if (items[idx] == target) {
+                        link = String.format("[%d]", idx);
+                        break;
+                    }
+                }
+            }
+        } else {
+            link = ObjectLayout.SHAPES.get(type).link(object, target);
+        }
+        return link;
+    }
+
+    /**
+     * Compute the shape of a class.
+     * @param type The class
+     * @return Shape
+     */
+    private static Shape shape(final Class<?> type) {
+        long end = Memory.HEADER;
+        long sum = Memory.HEADER;
+        boolean exact = true;
+        final List<Field> fields = new ArrayList<>(0);
+        final Map<Long, Field> offsets = new LinkedHashMap<>(0);
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            for (final Field field : cls.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                final long bytes = Memory.bytes(field.getType());
+                final long offset = Memory.offset(field);
+                sum += bytes;
+                if (offset < 0L) {
+                    exact = false;
+                } else {
+                    end = Math.max(end, offset + bytes);
+                }
+                if (field.getType().isPrimitive()
+                    || cls.equals(Reference.class)) {
+                    continue;
+                }
+                if (ObjectLayout.accessible(field)) {
+                    fields.add(field);
+                } else if (offset >= 0L) {
+                    offsets.put(offset, field);
+                }
+            }
+        }
+        final long size;
+        if (exact) {
+            size = Memory.aligned(end);
+        } else {
+            size = Memory.aligned(sum);
+        }
+        return new Shape(size, fields, offsets);
+    }
+
+    /**
+     * Make a field accessible to reflection, if possible.
+     * @param field The field
+     * @return Whether it is accessible
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static boolean accessible(final Field field) {
+        boolean accessible;
+        try {
+            field.setAccessible(true);
+            accessible = true;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            accessible = false;
+        }
+        return accessible;
+    }
+
+    /**
+     * Size and reference fields of the instances of a class.
+     *
+     * @since 1.0.0
+     */
+    private static final class Shape {
+
+        /**
+         * Size of instances in bytes.
+         */
+        private final long size;
+
+        /**
+         * Reference fields accessible to reflection.
+         */
+        private final List<Field> fields;
+
+        /**
+         * Reference fields to read from memory, by offset.
+         */
+        private final Map<Long, Field> offsets;
+
+        /**
+         * Ctor.
+         * @param size Size of instances in bytes
+         * @param fields Reference fields accessible to reflection
+         * @param offsets Reference fields to read from memory, by offset
+         */
+        Shape(
+            final long size,
+            final List<Field> fields,
+            final Map<Long, Field> offsets
+        ) {
+            this.size = size;
+            this.fields = fields;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Objects an instance refers to.
+         * @param object The instance
+         * @param found Where to add the objects, except nulls
+         */
+        void references(final Object object, final Collection<Object> found) {
+            for (final Field field : this.fields) {
+                final Object value = Shape.read(object, field);
+                if (value != null) {
+                    found.add(value);
+                }
+            }
+            for (final Long offset : this.offsets.keySet()) {
+                final Object value = Memory.read(object, offset);
+                if (value != null) {
+                    found.add(value);
+                }
+            }
+        }
+
+        /**
+         * Name of the field of an instance that refers to an object.
+         * @param object The instance
+         * @param target The object it refers to
+         * @return Name of the field, e.g. {@code .items}, or empty if none
+         *  refers to it
+         */
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        String link(final Object object, final Object target) {
+            Field linked = null;
+            for (final Field field : this.fields) {
+                if (linked == null && Shape.read(object, field) == target) {
+                    linked = field;
+                }
+            }
+            for (final Map.Entry<Long, Field> field
+                : this.offsets.entrySet()) {
+                if (linked == null
+                    && Memory.read(object, field.getKey()) == target) {
+                    linked = field.getValue();
+                }
+            }
+            String link = "";
+            if (linked != null) {
+                link = String.format(".%s", linked.getName());
+            }
+            return link;
+        }
+
+        /**
+         * Read a reference field through reflection.
+         * @param object Object to read from
+         * @param field The field
+         * @return The reference
+         */
+        private static Object read(final Object object, final Field field) {
+            try {
+                return field.get(object);
+            } catch (final IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Layout of memory, from {@code sun.misc.Unsafe}.
+     *
+     * @since 1.0.0
+     */
+    private static final class Memory {
+
+        /**
+         * The unsafe, or null if it is not available.
+         */
+        private static final Object UNSAFE = Memory.unsafe();
+
+        /**
+         * Method to read references from memory, or null.
+         */
+        private static final Method GET = Memory.method(
+            "getObject", Object.class, long.class
+        );
+
+        /**
+         * Method to find offsets of fields, or null.
+         */
+        private static final Method OFFSET = Memory.method(
+            "objectFieldOffset", Field.class
+        );
+
+        /**
+         * Size of object headers in bytes.
+         */
+        private static final long HEADER =
+            Memory.base(int[].class) - Integer.BYTES;
+
+        /**
+         * Size of references in bytes.
+         */
+        private static final long REFERENCE = Memory.scale(Object[].class);
+
+        /**
+         * Alignment of objects in bytes.
+         */
+        private static final long ALIGNMENT = Memory.alignment();
+
+        /**
+         * Ctor.
+         */
+        private Memory() {
+        }
+
+        /**
+         * Size of a field of a type.
+         * @param type The type
+         * @return Size in bytes
+         */
+        private static long bytes(final Class<?> type) {
+            final long bytes;
+            if (type.equals(long.class) || type.equals(double.class)) {
+                bytes = Long.BYTES;
+            } else if (type.equals(int.class) || type.equals(float.class)) {
+                bytes = Integer.BYTES;
+            } else if (type.equals(short.class) || type.equals(char.class)) {
+                bytes = Short.BYTES;
+            } else if (type.equals(byte.class)
+                || type.equals(boolean.class)) {
+                bytes = Byte.BYTES;
+            } else if (Memory.UNSAFE == null) {
+                bytes = Integer.BYTES;
+            } else {
+                bytes = Memory.REFERENCE;
+            }
+            return bytes;
+        }
+
+        /**
+         * Size rounded up to the alignment of objects.
+         * @param size Size in bytes
+         * @return Aligned size in bytes
+         */
+        private static long aligned(final long size) {
+            return (size + Memory.ALIGNMENT - 1L)
+                / Memory.ALIGNMENT * Memory.ALIGNMENT;
+        }
+
+        /**
+         * Offset of the first element of arrays of a type.
+         * @param type Type of array
+         * @return Offset in bytes
+         */
+        private static long base(final Class<?> type) {
+            final long base;
+            if (Memory.UNSAFE == null) {
+                // @checkstyle MagicNumber (1 line)
+                base = 16L;
+            } else {
+                base = Memory.invoke("arrayBaseOffset", type);
+            }
+            return base;
+        }
+
+        /**
+         * Size of the elements of arrays of a type.
+         * @param type Type of array
+         * @return Size in bytes
+         */
+        private static long scale(final Class<?> type) {
+            final long scale;
+            if (Memory.UNSAFE == null) {
+                scale = Memory.bytes(type.getComponentType());
+            } else {
+                scale = Memory.invoke("arrayIndexScale", type);
+            }
+            return scale;
+        }
+
+        /**
+         * Offset of a field.
+         * @param field The field
+         * @return Offset in bytes, or -1 if it is not available, e.g. in
+         *  hidden classes and records
+         */
+        private static long offset(final Field field) {
+            long offset = -1L;
+            if (Memory.OFFSET != null) {
+                try {
+                    offset = (Long) Memory.OFFSET.invoke(Memory.UNSAFE, field);
+                } catch (final ReflectiveOperationException ex) {
+                    offset = -1L;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Read a reference from memory.
+         * @param object Object to read from
+         * @param offset Offset of the reference in bytes
+         * @return The reference
+         */
+        private static Object read(final Object object, final long offset) {
+            try {
+                return Memory.GET.invoke(Memory.UNSAFE, object, offset);
+            } catch (final ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Invoke a method of the unsafe that describes arrays.
+         * @param name Name of the method
+         * @param type Type of array
+         * @return Result
+         */
+        private static long invoke(final String name, final Class<?> type) {
+            try {
+                return ((Number) Memory.UNSAFE.getClass()
+                    .getMethod(name, Class.class)
+                    .invoke(Memory.UNSAFE, type)).longValue();
+            } catch (final ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Find a method of the unsafe.
+         * @param name Name of the method
+         * @param types Types of its parameters
+         * @return The method, or null if the unsafe is not available
+         */
+        private static Method method(
+            final String name,
+            final Class<?>... types
+        ) {
+            Method method = null;
+            if (Memory.UNSAFE != null) {
+                try {
+                    method = Memory.UNSAFE.getClass().getMethod(name, types);
+                } catch (final NoSuchMethodException ex) {
+                    method = null;
+                }
+            }
+            return method;
+        }
+
+        /**
+         * Find the unsafe.
+         * @return The unsafe, or null if it is not available
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private static Object unsafe() {
+            Object unsafe;
+            try {
+                final Field field = Class.forName("sun.misc.Unsafe")
+                    .getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final ReflectiveOperationException | RuntimeException ex) {
+                unsafe = null;
+            }
+            return unsafe;
+        }
+
+        /**
+         * Alignment of objects, from the options of the JVM.
+         * @return Alignment in bytes
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private static long alignment() {
+            long alignment;
+            try {
+                alignment = Long.parseLong(
+                    ManagementFactory
+                        .getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                        .getVMOption("ObjectAlignmentInBytes").getValue()
+                );
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final RuntimeException ex) {
+                alignment = Long.BYTES;
+            }
+            return alignment;
+        }
+    }
+}
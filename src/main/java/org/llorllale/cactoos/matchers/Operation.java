@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+/**
+ * Operation on a concurrent object and on its sequential model.
+ *
+ * <p>The model is the sequential specification of the object: an
+ * immutable state, with proper {@code equals()} and {@code hashCode()},
+ * that every operation turns into the next one. For example, an
+ * {@code incrementAndGet()} of an {@code AtomicInteger} expects
+ * {@code state + 1} and leads to {@code state + 1}.</p>
+ *
+ * <p>Implement {@code toString()} too, it is used to describe histories
+ * that are not linearizable.</p>
+ *
+ * @param <T> Type of the concurrent object
+ * @param <S> Type of the state of the model
+ * @since 1.0.0
+ */
+public interface Operation<T, S> {
+
+    /**
+     * Apply the operation to the concurrent object.
+     * @param object The concurrent object
+     * @return Result of the operation
+     * @throws Exception If fails
+     */
+    Object apply(T object) throws Exception;
+
+    /**
+     * Result the operation must have in a state of the model.
+     * @param state State of the model
+     * @return Expected result
+     * @throws Exception If fails
+     */
+    Object expected(S state) throws Exception;
+
+    /**
+     * State of the model after the operation.
+     * @param state State of the model before the operation
+     * @return State of the model after the operation
+     * @throws Exception If fails
+     */
+    S next(S state) throws Exception;
+}
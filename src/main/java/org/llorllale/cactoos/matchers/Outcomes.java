@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Histogram of the outcomes of races between actors.
+ *
+ * <p>An outcome is the list of the results of all actors in one race,
+ * in the order of the actors.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Outcomes {
+
+    /**
+     * How many times every outcome was observed.
+     */
+    private final Map<List<Object>, Long> counts;
+
+    /**
+     * Ctor.
+     * @param counts How many times every outcome was observed
+     */
+    public Outcomes(final Map<List<Object>, Long> counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Outcomes observed at least once.
+     * @return Outcomes
+     */
+    public Set<List<Object>> observed() {
+        return Collections.unmodifiableSet(this.counts.keySet());
+    }
+
+    /**
+     * How many times an outcome was observed.
+     * @param outcome Results of all actors, in the order of the actors
+     * @return Count
+     */
+    public long count(final List<?> outcome) {
+        return this.counts.getOrDefault(outcome, 0L);
+    }
+
+    /**
+     * Number of races.
+     * @return Count
+     */
+    public long total() {
+        long total = 0L;
+        for (final long count : this.counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final List<Map.Entry<List<Object>, Long>> entries =
+            new ArrayList<>(this.counts.entrySet());
+        entries.sort(
+            (left, right) -> Long.compare(right.getValue(), left.getValue())
+        );
+        final double total = Math.max(1L, this.total());
+        final StringBuilder text = new StringBuilder(0);
+        for (final Map.Entry<List<Object>, Long> entry : entries) {
+            if (text.length() > 0) {
+                text.append(System.lineSeparator());
+            }
+            text.append(
+                String.format(
+                    Locale.ENGLISH, "%s: %d (%.2f%%)",
+                    entry.getKey(), entry.getValue(),
+                    // @checkstyle MagicNumber (1 line)
+                    entry.getValue() * 100.0 / total
+                )
+            );
+        }
+        return text.toString();
+    }
+}
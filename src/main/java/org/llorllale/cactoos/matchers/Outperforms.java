@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a candidate {@link Func} is significantly faster
+ * than a baseline one.
+ *
+ * <p>Both are warmed up and then timed in batches of the same number of
+ * invocations, alternating between them and which one goes first, so
+ * that drifts of the machine affect both alike. The batch times of the
+ * baseline are scaled down by the required improvement, and a one-sided
+ * Mann-Whitney U test must then show that the batch times of the
+ * candidate are smaller, at a significance level of 5%. So the matcher
+ * fails only when the improvement is not statistically supported. On
+ * mismatch both distributions of time per invocation are reported. Each
+ * candidate is timed once per match, and the mismatch of that run is
+ * reused to describe it.</p>
+ *
+ * <p>Here is an example how {@link Outperforms} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must be at least 20% faster than the old parser",
+ *      (Func<String, Json>) text -> new FastParser().parse(text),
+ *      new Outperforms<>(
+ *          text -> new OldParser().parse(text), "{\"key\": 1}", 0.2
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (300 lines)
+ */
+public final class Outperforms<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * Significance level.
+     */
+    private static final double ALPHA = 0.05;
+
+    /**
+     * Batches grow until one of the baseline takes this long, in
+     * nanoseconds.
+     */
+    private static final long BATCH = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    /**
+     * Baseline.
+     */
+    private final Func<? super T, ?> baseline;
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Required improvement, as a fraction of the baseline's time.
+     */
+    private final double improvement;
+
+    /**
+     * Number of timed batches of each func.
+     */
+    private final int batches;
+
+    /**
+     * Warmup of each func in milliseconds.
+     */
+    private final long warmup;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param baseline Baseline
+     * @param object Input object
+     * @param improvement Required improvement, as a fraction of the
+     *  baseline's time (e.g. 0.2 for 20% faster)
+     */
+    public Outperforms(
+        final Func<? super T, ?> baseline, final T object,
+        final double improvement
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(baseline, object, improvement, 30, 500L);
+    }
+
+    /**
+     * Ctor.
+     * @param baseline Baseline
+     * @param object Input object
+     * @param improvement Required improvement, as a fraction of the
+     *  baseline's time (e.g. 0.2 for 20% faster)
+     * @param batches Number of timed batches of each func
+     * @param warmup Warmup of each func in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Outperforms(
+        final Func<? super T, ?> baseline, final T object,
+        final double improvement, final int batches, final long warmup
+    ) {
+        super();
+        this.baseline = baseline;
+        this.input = object;
+        this.improvement = improvement;
+        this.batches = batches;
+        this.warmup = warmup;
+        this.verdicts = new Verdicts<>(this::compared);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("outperforms the baseline by at least ")
+            .appendText(new Percent(this.improvement).toString())
+            .appendText(" with p < ")
+            .appendValue(Outperforms.ALPHA);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> candidate, final Description desc
+    ) {
+        return this.verdicts.matches(candidate, desc);
+    }
+
+    /**
+     * Time the candidate against the baseline and test the improvement.
+     * @param candidate Candidate
+     * @param desc Where to describe the mismatch
+     * @return Whether the improvement is significant
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean compared(
+        final Func<? super T, ?> candidate, final Description desc
+    ) {
+        final Blackhole sink = new Blackhole();
+        final double[] fast = new double[this.batches];
+        final double[] slow = new double[this.batches];
+        final long size;
+        try {
+            size = this.warmed(candidate, sink);
+            for (int idx = 0; idx < this.batches; ++idx) {
+                if (idx % 2 == 0) {
+                    fast[idx] = this.timed(candidate, sink, size);
+                    slow[idx] = this.timed(this.baseline, sink, size);
+                } else {
+                    slow[idx] = this.timed(this.baseline, sink, size);
+                    fast[idx] = this.timed(candidate, sink, size);
+                }
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        final double[] scaled = new double[slow.length];
+        for (int idx = 0; idx < slow.length; ++idx) {
+            scaled[idx] = slow[idx] * (1.0 - this.improvement);
+        }
+        final double pvalue = new MannWhitney(fast, scaled).pvalue();
+        final boolean matches = pvalue < Outperforms.ALPHA;
+        if (!matches) {
+            desc.appendText("improvement of ")
+                .appendText(
+                    new Percent(
+                        1.0 - Outperforms.median(fast) / Outperforms.median(slow)
+                    ).toString()
+                )
+                .appendText(" in median time is not significant, p = ")
+                .appendText(String.format(Locale.ENGLISH, "%.4f", pvalue))
+                .appendText(" in ")
+                .appendValue(this.batches)
+                .appendText(" batches of ")
+                .appendValue(size)
+                .appendText(" invocations; candidate ")
+                .appendText(Outperforms.histogram(fast).toString())
+                .appendText("; baseline ")
+                .appendText(Outperforms.histogram(slow).toString());
+        }
+        return matches;
+    }
+
+    /**
+     * Warm up both funcs and find out how many invocations make a batch.
+     * @param candidate Candidate
+     * @param sink Where to consume results
+     * @return Invocations per batch
+     * @throws Exception If a func fails
+     */
+    private long warmed(
+        final Func<? super T, ?> candidate, final Blackhole sink
+    ) throws Exception {
+        final long nanos = TimeUnit.MILLISECONDS.toNanos(this.warmup);
+        for (final Func<? super T, ?> func
+            : Arrays.<Func<? super T, ?>>asList(candidate, this.baseline)) {
+            final long start = System.nanoTime();
+            while (System.nanoTime() - start < nanos) {
+                sink.consume(func.apply(this.input));
+            }
+        }
+        long size = 1L;
+        while (this.timed(this.baseline, sink, size) * size
+            < Outperforms.BATCH) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Time a batch of invocations.
+     * @param func Func to invoke
+     * @param sink Where to consume results
+     * @param size Number of invocations
+     * @return Nanoseconds per invocation
+     * @throws Exception If the func fails
+     */
+    private double timed(
+        final Func<? super T, ?> func, final Blackhole sink, final long size
+    ) throws Exception {
+        final long start = System.nanoTime();
+        for (long idx = 0L; idx < size; ++idx) {
+            sink.consume(func.apply(this.input));
+        }
+        return (double) (System.nanoTime() - start) / size;
+    }
+
+    /**
+     * Median of a sample.
+     * @param sample Sample
+     * @return Median
+     */
+    private static double median(final double[] sample) {
+        final double[] sorted = sample.clone();
+        Arrays.sort(sorted);
+        final int middle = sorted.length / 2;
+        final double median;
+        if (sorted.length % 2 == 0) {
+            // @checkstyle MagicNumber (1 line)
+            median = (sorted[middle - 1] + sorted[middle]) / 2.0;
+        } else {
+            median = sorted[middle];
+        }
+        return median;
+    }
+
+    /**
+     * Histogram of times per invocation.
+     * @param sample Nanoseconds per invocation of every batch
+     * @return Histogram
+     */
+    private static Histogram histogram(final double[] sample) {
+        final Histogram histogram = new Histogram();
+        for (final double nanos : sample) {
+            histogram.add(Math.round(nanos));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.cactoos.Func;
+
+/**
+ * Worker threads that apply a {@link Func} at a fixed rate, open-loop.
+ *
+ * <p>Invocations are scheduled at fixed intervals from the start of the
+ * run, whether the previous ones have finished or not, and the next one
+ * due is taken by whichever thread of a {@link Crew} is free. The
+ * latency of every invocation is measured from when it was due, not from
+ * when it started, so that the time it waited for a free thread, because
+ * the func was too slow to keep up, is counted too, i.e. the latencies
+ * are corrected for coordinated omission.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ */
+final class Paced<T> {
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Invocations per second.
+     */
+    private final double rate;
+
+    /**
+     * How long to invoke the func, in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * Threads to run the func in.
+     */
+    private final Crew crew;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Number of threads
+     * @param rate Invocations per second
+     * @param nanos How long to invoke the func, in nanoseconds
+     * @param millis Timeout of the whole run in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Paced(
+        final T object, final int threads, final double rate,
+        final long nanos, final long millis
+    ) {
+        this.input = object;
+        this.rate = rate;
+        this.duration = nanos;
+        this.crew = new Crew(threads, millis);
+    }
+
+    /**
+     * Run the func at the rate.
+     * @param func Func to run
+     * @return Statistics of the run
+     * @throws TimeoutException If the threads deadlock or time out
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public RunStatistics run(final Func<? super T, Boolean> func)
+        throws TimeoutException, InterruptedException {
+        final AtomicLong next = new AtomicLong();
+        return this.crew.run(
+            (start, latency) -> this.applied(func, start, next, latency),
+            Collections.emptyList()
+        );
+    }
+
+    /**
+     * Apply the func in the current thread whenever an invocation is due,
+     * until the duration is over.
+     * @param func Func to apply
+     * @param start Start of the run in nanoseconds
+     * @param next Index of the next invocation due
+     * @param latency Where to record the latencies
+     * @return Whether all invocations returned true
+     * @throws Exception If the func fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private boolean applied(
+        final Func<? super T, Boolean> func, final long start,
+        final AtomicLong next, final Histogram latency
+    ) throws Exception {
+        final double interval = TimeUnit.SECONDS.toNanos(1L) / this.rate;
+        boolean success = true;
+        long due = (long) (next.getAndIncrement() * interval);
+        while (due < this.duration) {
+            for (long wait = start + due - System.nanoTime(); wait > 0L;
+                wait = start + due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            final boolean result = func.apply(this.input);
+            latency.add(System.nanoTime() - start - due);
+            success = success && result;
+            due = (long) (next.getAndIncrement() * interval);
+        }
+        return success;
+    }
+}
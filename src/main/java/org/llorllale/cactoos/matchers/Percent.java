@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Locale;
+
+/**
+ * Human readable percentage given as a fraction.
+ *
+ * <p>Prints the fraction as a percentage with one decimal, e.g.
+ * {@code 0.125} is printed as {@code 12.5%}.</p>
+ *
+ * @since 1.0.0
+ */
+final class Percent {
+
+    /**
+     * Fraction.
+     */
+    private final double fraction;
+
+    /**
+     * Ctor.
+     * @param fraction Fraction, e.g. 0.1 for 10%
+     */
+    Percent(final double fraction) {
+        this.fraction = fraction;
+    }
+
+    @Override
+    public String toString() {
+        // @checkstyle MagicNumber (1 line)
+        return String.format(Locale.ENGLISH, "%.1f%%", this.fraction * 100.0);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for {@link Func} that perturbs the schedule of the threads
+ * running it, to shake out races.
+ *
+ * <p>Threads of {@link RunsInThreads} are released all at once and tend
+ * to run in lockstep. This matcher makes every thread pause randomly
+ * (yield, spin or park) before and after every invocation of the
+ * {@link Func}, and reports the seed of the pauses on mismatch, so that
+ * the same perturbation can be replayed. Each {@link Func} is run once
+ * per match, and the mismatch of that run is reused to describe
+ * it.</p>
+ *
+ * <p>Here is an example how {@link Perturbed} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must be thread-safe with perturbed threads",
+ *      counter -> counter.incrementAndGet() > 0,
+ *      new Perturbed<>(
+ *          new RunsInThreads<>(new AtomicInteger(), 16)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class Perturbed<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, Boolean>> {
+
+    /**
+     * Seed of the random pauses.
+     */
+    private final long seed;
+
+    /**
+     * Matcher to run the perturbed func with.
+     */
+    private final Matcher<? super Func<T, Boolean>> origin;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, Boolean>> verdicts;
+
+    /**
+     * Ctor.
+     * @param matcher Matcher to run the perturbed func with
+     */
+    public Perturbed(final Matcher<? super Func<T, Boolean>> matcher) {
+        this(System.nanoTime(), matcher);
+    }
+
+    /**
+     * Ctor.
+     * @param seed Seed of the random pauses, to replay a perturbation
+     * @param matcher Matcher to run the perturbed func with
+     */
+    public Perturbed(
+        final long seed, final Matcher<? super Func<T, Boolean>> matcher
+    ) {
+        super();
+        this.seed = seed;
+        this.origin = matcher;
+        this.verdicts = new Verdicts<>(this::perturbed);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendDescriptionOf(this.origin)
+            .appendText(" with perturbed schedule");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, Boolean> func,
+        final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Match the func with random pauses.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether it matches
+     */
+    private boolean perturbed(
+        final Func<? super T, Boolean> func,
+        final Description desc
+    ) {
+        final Func<T, Boolean> perturbed = new Jittered<>(this.seed, func);
+        final boolean matches = this.origin.matches(perturbed);
+        if (!matches) {
+            this.origin.describeMismatch(perturbed, desc);
+            desc.appendText(" (perturbation seed ")
+                .appendValue(this.seed)
+                .appendText(")");
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for actors that race on a shared state, in the spirit of
+ * jcstress.
+ *
+ * <p>Every actor runs in its own thread, and all of them race on a fresh
+ * state, many times. The results of the actors in every race make an
+ * outcome, and the histogram of {@link Outcomes} must match, e.g. with
+ * {@link ForbidsOutcomes}. Outcomes that are allowed but interesting
+ * just show up in the histogram printed on mismatch. The actors are
+ * raced once per match, and the mismatch of those races is reused to
+ * describe them.</p>
+ *
+ * <p>Races run in batches: the threads are synchronized once per batch
+ * of fresh states, and then every actor goes through the whole batch
+ * storing its results into an array, so that the overhead of a race is
+ * little more than the invocation of the actors.</p>
+ *
+ * <p>Here is an example how {@link RacesInThreads} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not reorder volatile stores and loads",
+ *      new ListOf<Func<AtomicIntegerArray, Object>>(
+ *          array -> {
+ *              array.set(0, 1);
+ *              return array.get(1);
+ *          },
+ *          array -> {
+ *              array.set(1, 1);
+ *              return array.get(0);
+ *          }
+ *      ),
+ *      new RacesInThreads<>(
+ *          () -> new AtomicIntegerArray(2), 1_000_000,
+ *          new ForbidsOutcomes(new ListOf<>(0, 0))
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <S> Type of the shared state
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (300 lines)
+ */
+public final class RacesInThreads<S> extends
+    TypeSafeDiagnosingMatcher<Iterable<? extends Func<? super S, ?>>> {
+
+    /**
+     * Races per batch.
+     */
+    private static final int BATCH = 1024;
+
+    /**
+     * Fresh shared state for every race.
+     */
+    private final Scalar<S> state;
+
+    /**
+     * Number of races.
+     */
+    private final int races;
+
+    /**
+     * Timeout of the whole run in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Matcher for the outcomes.
+     */
+    private final Matcher<? super Outcomes> outcomes;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Iterable<? extends Func<? super S, ?>>> verdicts;
+
+    /**
+     * Ctor.
+     * @param state Fresh shared state for every race
+     * @param races Number of races
+     * @param matcher Matcher for the outcomes
+     */
+    public RacesInThreads(
+        final Scalar<S> state, final int races,
+        final Matcher<? super Outcomes> matcher
+    ) {
+        this(state, races, Long.MAX_VALUE, matcher);
+    }
+
+    /**
+     * Ctor.
+     * @param state Fresh shared state for every race
+     * @param races Number of races
+     * @param millis Timeout of the whole run in milliseconds
+     * @param matcher Matcher for the outcomes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RacesInThreads(
+        final Scalar<S> state, final int races, final long millis,
+        final Matcher<? super Outcomes> matcher
+    ) {
+        super();
+        this.state = state;
+        this.races = races;
+        this.timeout = millis;
+        this.outcomes = matcher;
+        this.verdicts = new Verdicts<>(this::raced);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("races ")
+            .appendValue(this.races)
+            .appendText(" times with ")
+            .appendDescriptionOf(this.outcomes);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Iterable<? extends Func<? super S, ?>> actors,
+        final Description desc
+    ) {
+        return this.verdicts.matches(actors, desc);
+    }
+
+    /**
+     * Race the actors and match the outcomes.
+     * @param actors Actors
+     * @param desc Where to describe the mismatch
+     * @return Whether the outcomes match
+     */
+    private boolean raced(
+        final Iterable<? extends Func<? super S, ?>> actors,
+        final Description desc
+    ) {
+        final List<Func<? super S, ?>> all = new ArrayList<>(0);
+        for (final Func<? super S, ?> actor : actors) {
+            all.add(actor);
+        }
+        boolean matches;
+        try {
+            final Outcomes observed = this.observed(all);
+            matches = this.outcomes.matches(observed);
+            if (!matches) {
+                this.outcomes.describeMismatch(observed, desc);
+                desc.appendText(" in ")
+                    .appendValue(observed.total())
+                    .appendText(" races:")
+                    .appendText(System.lineSeparator())
+                    .appendText(observed.toString());
+            }
+        } catch (final TimeoutException ex) {
+            desc.appendText(ex.getMessage());
+            matches = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        return matches;
+    }
+
+    /**
+     * Race the actors and collect the outcomes.
+     * @param actors Actors
+     * @return Outcomes
+     * @throws TimeoutException If the actors deadlock or time out
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private Outcomes observed(final List<Func<? super S, ?>> actors)
+        throws TimeoutException, InterruptedException {
+        final int size = Math.min(RacesInThreads.BATCH, this.races);
+        final int batches = (int) ((this.races + (long) size - 1L) / size);
+        final List<S> states = new ArrayList<>(
+            Collections.<S>nCopies(size, null)
+        );
+        final Object[][] results = new Object[actors.size()][size];
+        final Map<List<Object>, Long> counts = new HashMap<>(0);
+        final AtomicInteger round = new AtomicInteger();
+        final CyclicBarrier barrier = new CyclicBarrier(
+            actors.size(),
+            () -> {
+                final int done = round.getAndIncrement();
+                if (done > 0) {
+                    RacesInThreads.collect(
+                        results, this.batch(done - 1), counts
+                    );
+                }
+                if (done < batches) {
+                    final Unchecked<S> fresh = new Unchecked<>(this.state);
+                    for (int idx = this.batch(done) - 1; idx >= 0; --idx) {
+                        states.set(idx, fresh.value());
+                    }
+                }
+            }
+        );
+        final AtomicInteger ticket = new AtomicInteger();
+        new Workers<>(states, actors.size(), 1, this.timeout).run(
+            input -> {
+                final int actor = ticket.getAndIncrement();
+                this.race(actors.get(actor), input, results[actor], barrier);
+                return true;
+            }
+        );
+        return new Outcomes(counts);
+    }
+
+    /**
+     * Run an actor on all batches.
+     * @param actor The actor
+     * @param states Shared states of the current batch
+     * @param results Where to store the results of the actor
+     * @param barrier Barrier to wait for the other actors at
+     * @throws Exception If the actor fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void race(
+        final Func<? super S, ?> actor, final List<S> states,
+        final Object[] results, final CyclicBarrier barrier
+    ) throws Exception {
+        boolean finished = false;
+        try {
+            int done = 0;
+            while (barrier.await() >= 0 && done < this.races) {
+                final int size = Math.min(states.size(), this.races - done);
+                for (int idx = 0; idx < size; ++idx) {
+                    results[idx] = actor.apply(states.get(idx));
+                }
+                done += size;
+            }
+            finished = true;
+        } finally {
+            if (!finished) {
+                barrier.reset();
+            }
+        }
+    }
+
+    /**
+     * Number of races in a batch.
+     * @param index Index of the batch
+     * @return Count
+     */
+    private int batch(final int index) {
+        return (int) Math.min(
+            RacesInThreads.BATCH,
+            this.races - (long) index * RacesInThreads.BATCH
+        );
+    }
+
+    /**
+     * Add the outcomes of a batch to the histogram.
+     * @param results Results of every actor
+     * @param size Number of races in the batch
+     * @param counts Histogram
+     */
+    private static void collect(
+        final Object[][] results, final int size,
+        final Map<List<Object>, Long> counts
+    ) {
+        for (int idx = 0; idx < size; ++idx) {
+            final Object[] outcome = new Object[results.length];
+            for (int actor = 0; actor < results.length; ++actor) {
+                outcome[actor] = results[actor][idx];
+            }
+            counts.merge(Arrays.asList(outcome), 1L, Long::sum);
+        }
+    }
+}
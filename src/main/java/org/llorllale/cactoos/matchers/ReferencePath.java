@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest chain of references from some roots to an object, as text.
+ *
+ * <p>The objects reachable from the roots are searched breadth-first,
+ * through instance fields and array elements, as read by
+ * {@link ObjectLayout}. Static fields are not searched, so an object
+ * retained only by one of them has no path. The path is described as the
+ * class of the root, followed by the field or the array element of each
+ * object that refers to the next one, along with its class.</p>
+ *
+ * @since 1.0.0
+ */
+final class ReferencePath {
+
+    /**
+     * Object to find.
+     */
+    private final Object target;
+
+    /**
+     * Objects to search from.
+     */
+    private final Iterable<?> roots;
+
+    /**
+     * Ctor.
+     * @param target Object to find
+     * @param roots Objects to search from
+     */
+    ReferencePath(final Object target, final Iterable<?> roots) {
+        this.target = target;
+        this.roots = roots;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public String toString() {
+        final ObjectLayout layout = new ObjectLayout();
+        final Map<Object, Object> parents = new IdentityHashMap<>(0);
+        final Deque<Object> pending = new ArrayDeque<>(0);
+        for (final Object root : this.roots) {
+            if (root != null && !parents.containsKey(root)) {
+                parents.put(root, root);
+                pending.add(root);
+            }
+        }
+        final List<Object> found = new ArrayList<>(0);
+        final StringBuilder text = new StringBuilder(0);
+        while (!pending.isEmpty()) {
+            final Object object = pending.poll();
+            if (object == this.target) {
+                text.append(ReferencePath.chain(object, parents, layout));
+                break;
+            }
+            found.clear();
+            layout.references(object, found);
+            for (final Object next : found) {
+                if (!(next instanceof Class) && !parents.containsKey(next)) {
+                    parents.put(next, object);
+                    pending.add(next);
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Chain of references from a root to an object.
+     * @param object The object
+     * @param parents Objects that refer to each found object, roots
+     *  refer to themselves
+     * @param layout Layout of objects
+     * @return References, one per line
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static String chain(
+        final Object object,
+        final Map<Object, Object> parents,
+        final ObjectLayout layout
+    ) {
+        final List<Object> chain = new ArrayList<>(0);
+        Object current = object;
+        chain.add(current);
+        while (parents.get(current) != current) {
+            current = parents.get(current);
+            chain.add(current);
+        }
+        Collections.reverse(chain);
+        final StringBuilder text = new StringBuilder(0)
+            .append(System.lineSeparator())
+            .append('\t').append(chain.get(0).getClass().getTypeName());
+        for (int idx = 1; idx < chain.size(); ++idx) {
+            final Object link = chain.get(idx);
+            text.append(System.lineSeparator())
+                .append('\t')
+                .append(layout.link(chain.get(idx - 1), link))
+                .append(": ")
+                .append(link.getClass().getTypeName());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a {@link Func} releases an object, so that it
+ * can be garbage collected.
+ *
+ * <p>The object is created by a {@link Scalar} and passed to the
+ * {@link Func}, and from then on it is only weakly referenced by the
+ * matcher. The garbage collector is then run until the reference is
+ * cleared, a bounded number of times. If it is not, the chain of
+ * references from the {@link Func} or the {@link Scalar} to the object
+ * is described, if there is one, since they usually capture whatever
+ * holds it. Each {@link Func} is checked once per match, and the
+ * mismatch of that check is reused to describe it.</p>
+ *
+ * <p>Here is an example how {@link Releases} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must release unsubscribed listeners",
+ *      (Func<Listener, Boolean>) bus::unsubscribe,
+ *      new Releases<>(() -> bus.subscribe(new Listener()))
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>The object must not be referred to by the test itself, e.g. from a
+ * local variable, or it is never released.</p>
+ *
+ * @param <T> Type of the object
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class Releases<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * How long to wait for the reference to be cleared after each
+     * collection, in milliseconds.
+     */
+    private static final long WAIT = 100L;
+
+    /**
+     * Creator of the object.
+     */
+    private final Scalar<? extends T> subject;
+
+    /**
+     * Garbage collections to try.
+     */
+    private final int attempts;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param subject Creator of the object
+     */
+    public Releases(final Scalar<? extends T> subject) {
+        // @checkstyle MagicNumber (1 line)
+        this(subject, 10);
+    }
+
+    /**
+     * Ctor.
+     * @param subject Creator of the object
+     * @param attempts Garbage collections to try
+     */
+    public Releases(final Scalar<? extends T> subject, final int attempts) {
+        super();
+        this.subject = subject;
+        this.attempts = attempts;
+        this.verdicts = new Verdicts<>(this::released);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("releases the object within ")
+            .appendValue(this.attempts)
+            .appendText(" garbage collections");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Pass a new object to the func and check that it is released.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether the object is released
+     */
+    private boolean released(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final ReferenceQueue<T> queue = new ReferenceQueue<>();
+        final Reference<T> reference = this.passed(func, queue);
+        boolean matches = false;
+        for (int idx = 0; idx < this.attempts && !matches; ++idx) {
+            System.gc();
+            try {
+                matches = queue.remove(Releases.WAIT) != null;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+        if (!matches) {
+            final T object = reference.get();
+            desc.appendText("still reachable after ")
+                .appendValue(this.attempts)
+                .appendText(" garbage collections");
+            if (object != null) {
+                final String path = new ReferencePath(
+                    object, Arrays.asList(func, this.subject)
+                ).toString();
+                if (!path.isEmpty()) {
+                    desc.appendText(", through:").appendText(path);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Create the object and pass it to the func, keeping only a weak
+     * reference to it.
+     * @param func The func
+     * @param queue Queue the reference is enqueued to once cleared
+     * @return Weak reference to the object
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Reference<T> passed(
+        final Func<? super T, ?> func, final ReferenceQueue<T> queue
+    ) {
+        try {
+            final T object = this.subject.value();
+            final Reference<T> reference = new WeakReference<>(object, queue);
+            func.apply(object);
+            return reference;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import org.cactoos.Func;
+
+/**
+ * Matcher to check that a {@link Func} releases the direct or mapped
+ * {@link java.nio.ByteBuffer}s it allocates.
+ *
+ * <p>The buffers of a pool, {@code "direct"} or {@code "mapped"}, and
+ * their total capacity are read from its {@link BufferPoolMXBean} before
+ * and after the {@link Func} is invoked, and must not grow by more than
+ * a tolerance. Buffers are released once they are garbage collected, so
+ * the garbage collector is run a few times before the matcher gives
+ * up; a buffer still reachable is leaked. Buffers allocated meanwhile by
+ * other threads count too.</p>
+ *
+ * <p>Here is an example how {@link ReleasesBuffers} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must release its buffers when the peer hangs up",
+ *      (Func<Socket, ?>) socket -> new Session(socket).run(),
+ *      new ReleasesBuffers<>(new HangingUp())
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ */
+public final class ReleasesBuffers<T> extends
+    MatcherEnvelope<Func<? super T, ?>> {
+
+    /**
+     * Ctor.
+     * @param object Input object
+     */
+    public ReleasesBuffers(final T object) {
+        // @checkstyle MagicNumber (1 line)
+        this(object, "direct", 0L, 0L, 3);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param pool Name of the pool of buffers, "direct" or "mapped"
+     * @param buffers Buffers that may stay allocated
+     * @param bytes Capacity in bytes that may stay allocated
+     * @param attempts Garbage collections to try
+     * @checkstyle ParameterNumberCheck (8 lines)
+     */
+    public ReleasesBuffers(
+        final T object,
+        final String pool,
+        final long buffers,
+        final long bytes,
+        final int attempts
+    ) {
+        super(
+            new Leak<>(
+                object,
+                Arrays.asList(
+                    new Gauge(
+                        String.format("%s buffers", pool),
+                        () -> ReleasesBuffers.pool(pool).getCount(),
+                        buffers
+                    ),
+                    new Gauge(
+                        String.format("bytes of %s buffers", pool),
+                        () -> ReleasesBuffers.pool(pool).getTotalCapacity(),
+                        bytes
+                    )
+                ),
+                attempts
+            )
+        );
+    }
+
+    /**
+     * Find a pool of buffers.
+     * @param name Name of the pool
+     * @return Management of the pool
+     */
+    private static BufferPoolMXBean pool(final String name) {
+        for (final BufferPoolMXBean pool
+            : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals(name)) {
+                return pool;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format("There is no pool of buffers named \"%s\"", name)
+        );
+    }
+}
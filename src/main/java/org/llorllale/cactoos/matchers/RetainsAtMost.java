@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Arrays;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that an object retains at most some bytes of heap
+ * memory, together with all the objects reachable from it.
+ *
+ * <p>The object graph is walked reflectively, each object is counted
+ * once and sized as laid out by the running JVM, and the classes that
+ * contribute the most are reported on mismatch. Instances of the
+ * excluded classes are neither counted nor walked into, e.g. to leave
+ * out objects shared with the rest of the application. {@link Class}
+ * objects, enum constants and referents of weak, soft and phantom
+ * references are never counted. The graph is walked once per match,
+ * and the mismatch of that walk is reused to describe it.</p>
+ *
+ * <p>Here is an example how {@link RetainsAtMost} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "index for 1M keys must retain less than 64 MB",
+ *      new Index(new Keys(1_000_000)),
+ *      new RetainsAtMost(64L << 20, Logger.class)
+ *  ).affirm();
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class RetainsAtMost extends TypeSafeDiagnosingMatcher<Object> {
+
+    /**
+     * Budget in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Classes whose instances are not counted.
+     */
+    private final Iterable<Class<?>> excluded;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Object> verdicts;
+
+    /**
+     * Ctor.
+     * @param bytes Budget in bytes
+     * @param excluded Classes whose instances are not counted
+     */
+    public RetainsAtMost(final long bytes, final Class<?>... excluded) {
+        this(bytes, Arrays.asList(excluded));
+    }
+
+    /**
+     * Ctor.
+     * @param bytes Budget in bytes
+     * @param excluded Classes whose instances are not counted
+     */
+    public RetainsAtMost(
+        final long bytes,
+        final Iterable<Class<?>> excluded
+    ) {
+        super();
+        this.budget = bytes;
+        this.excluded = excluded;
+        this.verdicts = new Verdicts<>(this::walked);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("retains at most ")
+            .appendValue(this.budget)
+            .appendText(" bytes");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Object item,
+        final Description desc
+    ) {
+        return this.verdicts.matches(item, desc);
+    }
+
+    /**
+     * Walk the object graph and check its footprint.
+     * @param item Root of the graph
+     * @param desc Where to describe the mismatch
+     * @return Whether it fits the budget
+     */
+    private boolean walked(final Object item, final Description desc) {
+        final Footprint footprint = new Footprint(item, this.excluded);
+        final boolean matches = footprint.retained() <= this.budget;
+        if (!matches) {
+            desc.appendText("retained ").appendText(footprint.toString());
+        }
+        return matches;
+    }
+}
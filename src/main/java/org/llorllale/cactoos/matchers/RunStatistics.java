@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of a concurrent run, as measured by {@link RunsInThreads}.
+ *
+ * <p>Use it with {@link HasLatency}, {@link HasThroughput} and
+ * {@link HasContention}.</p>
+ *
+ * @since 1.0.0
+ */
+public final class RunStatistics {
+
+    /**
+     * Number of threads.
+     */
+    private final int workers;
+
+    /**
+     * Number of threads in which all invocations succeeded.
+     */
+    private final int succeeded;
+
+    /**
+     * Wall time of the whole run in nanoseconds.
+     */
+    private final long wall;
+
+    /**
+     * Latencies of every invocation.
+     */
+    private final Histogram latencies;
+
+    /**
+     * Lock contention of every thread.
+     */
+    private final Collection<Contention> contended;
+
+    /**
+     * Ctor.
+     * @param threads Number of threads
+     * @param successes Number of threads in which all invocations succeeded
+     * @param elapsed Wall time of the whole run in nanoseconds
+     * @param latencies Latencies of every invocation
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RunStatistics(
+        final int threads, final int successes, final long elapsed,
+        final Histogram latencies
+    ) {
+        this(
+            threads, successes, elapsed, latencies,
+            Collections.<Contention>emptyList()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param threads Number of threads
+     * @param successes Number of threads in which all invocations succeeded
+     * @param elapsed Wall time of the whole run in nanoseconds
+     * @param latencies Latencies of every invocation
+     * @param contention Lock contention of every thread
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RunStatistics(
+        final int threads, final int successes, final long elapsed,
+        final Histogram latencies, final Collection<Contention> contention
+    ) {
+        this.workers = threads;
+        this.succeeded = successes;
+        this.wall = elapsed;
+        this.latencies = latencies;
+        this.contended = contention;
+    }
+
+    /**
+     * Number of threads.
+     * @return Threads
+     */
+    public int threads() {
+        return this.workers;
+    }
+
+    /**
+     * Number of threads in which all invocations succeeded.
+     * @return Threads
+     */
+    public int successes() {
+        return this.succeeded;
+    }
+
+    /**
+     * Wall time of the whole run.
+     * @return Nanoseconds
+     */
+    public long elapsed() {
+        return this.wall;
+    }
+
+    /**
+     * Latencies of every invocation.
+     * @return Histogram in nanoseconds
+     */
+    public Histogram latency() {
+        return this.latencies;
+    }
+
+    /**
+     * Lock contention of every thread.
+     * @return Contention, empty if it was not measured
+     */
+    public Collection<Contention> contention() {
+        return Collections.unmodifiableCollection(this.contended);
+    }
+
+    /**
+     * Aggregate throughput of all threads.
+     * @return Invocations per second
+     */
+    public double throughput() {
+        return (double) this.latencies.count()
+            * TimeUnit.SECONDS.toNanos(1L)
+            / Math.max(1L, this.wall);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ENGLISH,
+            "%d threads in %s, %.1f ops/s, latency %s",
+            this.workers,
+            new Nanos(this.wall),
+            this.throughput(),
+            this.latencies
+        );
+    }
+}
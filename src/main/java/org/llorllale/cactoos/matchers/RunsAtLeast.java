@@ -0,0 +1,265 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that a {@link Func} runs at least at some throughput.
+ *
+ * <p>The {@link Func} is invoked in the current thread, again and again:
+ * first to warm up, then for the measured duration, which is split into
+ * ten samples of equal length. Its results are consumed by
+ * a {@link Blackhole}, so that the JIT compiler does not eliminate it.
+ * The mean throughput of the samples must reach the minimum; on mismatch
+ * it is reported with its 95% confidence interval. Each {@link Func} is
+ * measured once per match, and the mismatch of that run is reused to
+ * describe it.</p>
+ *
+ * <p>Here is an example how {@link RunsAtLeast} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must serialize at least 500k times per second",
+ *      (Func<Order, String>) order -> new Json(order).asString(),
+ *      new RunsAtLeast<>(new Order(42), 500_000.0)
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>A {@link org.cactoos.Scalar} can be checked too, by turning it into
+ * a {@link Func} with {@link org.cactoos.func.FuncOf}.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class RunsAtLeast<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * Number of samples.
+     */
+    private static final int SAMPLES = 10;
+
+    /**
+     * Quantile of Student's t-distribution with nine
+     * degrees of freedom for a two-sided 95% confidence interval.
+     */
+    private static final double STUDENT = 2.262;
+
+    /**
+     * Invocations between checks of the clock are doubled until a batch
+     * takes this long, in nanoseconds.
+     */
+    private static final long BATCH = TimeUnit.MICROSECONDS.toNanos(100L);
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Minimum throughput in invocations per second.
+     */
+    private final double minimum;
+
+    /**
+     * Warmup in milliseconds.
+     */
+    private final long warmup;
+
+    /**
+     * Measured duration in milliseconds.
+     */
+    private final long duration;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param ops Minimum throughput in invocations per second
+     */
+    public RunsAtLeast(final T object, final double ops) {
+        // @checkstyle MagicNumber (1 line)
+        this(object, ops, 500L, 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param ops Minimum throughput in invocations per second
+     * @param warmup Warmup in milliseconds
+     * @param millis Measured duration in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RunsAtLeast(
+        final T object, final double ops, final long warmup,
+        final long millis
+    ) {
+        super();
+        this.input = object;
+        this.minimum = ops;
+        this.warmup = warmup;
+        this.duration = millis;
+        this.verdicts = new Verdicts<>(this::measured);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("runs at least ")
+            .appendText(RunsAtLeast.ops(this.minimum))
+            .appendText(" ops/s");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Measure the throughput of the func and check it.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether the throughput reaches the minimum
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean measured(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final Blackhole sink = new Blackhole();
+        final double[] samples = new double[RunsAtLeast.SAMPLES];
+        try {
+            this.throughput(
+                func, sink, TimeUnit.MILLISECONDS.toNanos(this.warmup)
+            );
+            final long each = TimeUnit.MILLISECONDS.toNanos(this.duration)
+                / RunsAtLeast.SAMPLES;
+            for (int idx = 0; idx < samples.length; ++idx) {
+                samples[idx] = this.throughput(func, sink, each);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        double mean = 0.0;
+        for (final double sample : samples) {
+            mean += sample / samples.length;
+        }
+        final boolean matches = mean >= this.minimum;
+        if (!matches) {
+            this.describe(samples, mean, desc);
+        }
+        return matches;
+    }
+
+    /**
+     * Invoke the func for a while and measure its throughput.
+     * @param func The func
+     * @param sink Where to consume its results
+     * @param nanos How long, in nanoseconds
+     * @return Invocations per second
+     * @throws Exception If the func fails
+     */
+    private double throughput(
+        final Func<? super T, ?> func, final Blackhole sink, final long nanos
+    ) throws Exception {
+        final long start = System.nanoTime();
+        long now = start;
+        long count = 0L;
+        long batch = 1L;
+        while (now - start < nanos) {
+            final long before = now;
+            for (long idx = 0L; idx < batch; ++idx) {
+                sink.consume(func.apply(this.input));
+            }
+            count += batch;
+            now = System.nanoTime();
+            if (now - before < RunsAtLeast.BATCH) {
+                batch <<= 1;
+            }
+        }
+        return (double) count * TimeUnit.SECONDS.toNanos(1L)
+            / Math.max(1L, now - start);
+    }
+
+    /**
+     * Describe the throughput of the samples.
+     * @param samples Throughput of every sample
+     * @param mean Mean throughput
+     * @param desc Where to describe it
+     */
+    private void describe(
+        final double[] samples, final double mean, final Description desc
+    ) {
+        double squares = 0.0;
+        double min = Double.MAX_VALUE;
+        double max = 0.0;
+        for (final double sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+            min = Math.min(min, sample);
+            max = Math.max(max, sample);
+        }
+        final double error = RunsAtLeast.STUDENT
+            * Math.sqrt(squares / (samples.length - 1))
+            / Math.sqrt(samples.length);
+        desc.appendText("ran at ")
+            .appendText(RunsAtLeast.ops(mean))
+            .appendText(" +/- ")
+            .appendText(RunsAtLeast.ops(error))
+            .appendText(" ops/s (95% confidence), samples from ")
+            .appendText(RunsAtLeast.ops(min))
+            .appendText(" to ")
+            .appendText(RunsAtLeast.ops(max))
+            .appendText(" ops/s in ")
+            .appendValue(samples.length)
+            .appendText(" samples of ")
+            .appendText(
+                new Nanos(
+                    TimeUnit.MILLISECONDS.toNanos(this.duration)
+                        / RunsAtLeast.SAMPLES
+                ).toString()
+            );
+    }
+
+    /**
+     * Throughput as text.
+     * @param ops Invocations per second
+     * @return Text
+     */
+    private static String ops(final double ops) {
+        return String.format(Locale.ENGLISH, "%.1f", ops);
+    }
+}
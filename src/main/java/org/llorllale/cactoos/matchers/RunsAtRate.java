@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for {@link Func} that must keep up with a fixed request rate.
+ *
+ * <p>The {@link Func} is invoked open-loop: invocations are due at fixed
+ * intervals, whether the previous ones have finished or not, and are
+ * picked up by a pool of threads. The latency of every invocation is
+ * measured from when it was due, so the time spent queuing behind slow
+ * invocations is not hidden, as it is in closed-loop timing like that of
+ * {@link RunsInThreads}. The {@link RunStatistics} of the run can then be
+ * checked with {@link HasLatency} and {@link HasThroughput}:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must answer within 5 ms at p99 at 20k ops/s",
+ *      map -> map.put("key", "value") != null || map.containsKey("key"),
+ *      new RunsAtRate<>(
+ *          new ConcurrentHashMap<>(), 20_000.0, 10_000L,
+ *          new HasLatency(0.99, 5L, TimeUnit.MILLISECONDS)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>The pool must be large enough to absorb the concurrency the rate
+ * requires, i.e. the rate times the latency, otherwise the invocations
+ * queue up and their latency grows.</p>
+ *
+ * <p>Each {@link Func} is run once per match, and the statistics of
+ * that run are reused to describe the mismatch.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class RunsAtRate<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, Boolean>> {
+
+    /**
+     * Number of threads.
+     */
+    private final int total;
+
+    /**
+     * Invocations per second.
+     */
+    private final double rate;
+
+    /**
+     * How long to invoke the func, in milliseconds.
+     */
+    private final long duration;
+
+    /**
+     * Matcher for the statistics of the run.
+     */
+    private final Matcher<? super RunStatistics> stats;
+
+    /**
+     * Worker threads.
+     */
+    private final Paced<T> paced;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, Boolean>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param rate Invocations per second
+     * @param millis How long to invoke the func, in milliseconds
+     * @param matcher Matcher for the statistics of the run
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RunsAtRate(
+        final T object, final double rate, final long millis,
+        final Matcher<? super RunStatistics> matcher
+    ) {
+        this(
+            // @checkstyle MagicNumber (1 line)
+            object, Runtime.getRuntime().availableProcessors() << 4,
+            rate, millis, matcher
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Size of thread pool
+     * @param rate Invocations per second
+     * @param millis How long to invoke the func, in milliseconds
+     * @param matcher Matcher for the statistics of the run
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RunsAtRate(
+        final T object, final int threads, final double rate,
+        final long millis, final Matcher<? super RunStatistics> matcher
+    ) {
+        super();
+        this.total = threads;
+        this.rate = rate;
+        this.duration = millis;
+        this.stats = matcher;
+        this.paced = new Paced<>(
+            object, threads, rate, TimeUnit.MILLISECONDS.toNanos(millis),
+            Long.MAX_VALUE
+        );
+        this.verdicts = new Verdicts<>(this::measured);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("runs at ")
+            .appendText(String.format(Locale.ENGLISH, "%.1f", this.rate))
+            .appendText(" ops/s for ")
+            .appendValue(this.duration)
+            .appendText(" milliseconds in ")
+            .appendValue(this.total)
+            .appendText(" threads successfuly with ")
+            .appendDescriptionOf(this.stats);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, Boolean> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Run the func at the rate and match the statistics of the run.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether the run matches
+     */
+    private boolean measured(
+        final Func<? super T, Boolean> func, final Description desc
+    ) {
+        boolean matches;
+        try {
+            final RunStatistics run = this.paced.run(func);
+            matches = run.successes() == this.total;
+            if (matches) {
+                matches = this.stats.matches(run);
+                if (!matches) {
+                    this.stats.describeMismatch(run, desc);
+                }
+            } else {
+                desc.appendText("ran successfuly in ")
+                    .appendValue(run.successes())
+                    .appendText(" threads");
+            }
+        } catch (final TimeoutException ex) {
+            desc.appendText(ex.getMessage());
+            matches = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for the cost of the first invocation of a {@link Func}, i.e.
+ * the classes it loads and the time it takes.
+ *
+ * <p>The {@link Func} is invoked once in the current thread, while the
+ * classes loaded by the JVM are counted by {@link ClassLoadingMXBean}.
+ * Only the first invocation is cold, so the cost of each {@link Func}
+ * is measured once per match and reused, e.g. to describe a mismatch.
+ * The {@link StartupCost} can then be checked with
+ * {@link HasLoadedClasses} and {@link HasStartupTime}:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "initializing the client must load fewer than 800 classes",
+ *      (Func<URI, Client>) Client::new,
+ *      new RunsCold<>(
+ *          URI.create("http://localhost"), new HasLoadedClasses(799L)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>Classes loaded by earlier tests in the same JVM are not loaded
+ * again, so the cost is the one of a cold start only when the code path
+ * is first taken by this test, e.g. when it runs in a JVM of its
+ * own.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class RunsCold<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Matcher for the cost.
+     */
+    private final Matcher<? super StartupCost> matcher;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param matcher Matcher for the cost
+     */
+    public RunsCold(
+        final T object, final Matcher<? super StartupCost> matcher
+    ) {
+        super();
+        this.input = object;
+        this.matcher = matcher;
+        this.verdicts = new Verdicts<>(this::measured);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("runs cold with ")
+            .appendDescriptionOf(this.matcher);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Measure the cost of the func and match it.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether the cost matches
+     */
+    private boolean measured(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final StartupCost cost = this.cost(func);
+        final boolean matches = this.matcher.matches(cost);
+        if (!matches) {
+            this.matcher.describeMismatch(cost, desc);
+        }
+        return matches;
+    }
+
+    /**
+     * Invoke the func, measuring its cost.
+     * @param func The func
+     * @return Cost
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private StartupCost cost(final Func<? super T, ?> func) {
+        final ClassLoadingMXBean classes =
+            ManagementFactory.getClassLoadingMXBean();
+        final long before = classes.getTotalLoadedClassCount();
+        final long start = System.nanoTime();
+        try {
+            func.apply(this.input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        final long elapsed = System.nanoTime() - start;
+        return new StartupCost(
+            classes.getTotalLoadedClassCount() - before, elapsed
+        );
+    }
+}
@@ -26,23 +26,37 @@
  */
 package org.llorllale.cactoos.matchers;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import org.cactoos.Func;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.SumOf;
-import org.cactoos.scalar.Ternary;
 import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 /**
  * Matcher for {@link Func} that must run in multiple threads.
  *
+ * <p>Every invocation of the {@link Func} is timed, so the latency
+ * distribution and the throughput of the run can be checked with
+ * {@link HasLatency} and {@link HasThroughput}:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must answer within 2 ms at p99 with 64 threads",
+ *      map -> map.put("key", "value") != null || map.containsKey("key"),
+ *      new RunsInThreads<>(
+ *          new ConcurrentHashMap<>(), 64, 1000,
+ *          new HasLatency(0.99, 2L, TimeUnit.MILLISECONDS)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>The worker threads are watched while they run: if they deadlock, or
+ * do not finish before the optional timeout, the matcher fails with the
+ * stack traces of the stuck threads and of the owners of the locks they
+ * wait for. Every mismatch ends with the statistics of the run, or of
+ * the threads that finished: the latency percentiles and the throughput.
+ * Each {@link Func} is run once per match, and the mismatch of that run
+ * is reused to describe it.</p>
+ *
  * @param <T> Type of input
  * @since 0.24
  * @checkstyle JavadocMethodCheck (500 lines)
@@ -50,14 +64,24 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 public final class RunsInThreads<T> extends TypeSafeDiagnosingMatcher<Func<? super T, Boolean>> {
 
     /**
-     * Input.
+     * Total cid of threads to run.
      */
-    private final T input;
+    private final int total;
 
     /**
-     * Total cid of threads to run.
+     * Worker threads.
      */
-    private final int total;
+    private final Workers<T> workers;
+
+    /**
+     * Matcher for the statistics of the run.
+     */
+    private final Matcher<RunStatistics> stats;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, Boolean>> verdicts;
 
     /**
      * Ctor.
@@ -81,9 +105,96 @@ public final class RunsInThreads<T> extends TypeSafeDiagnosingMatcher<Func<? sup
      * @param threads Size of thread pool
      */
     public RunsInThreads(final T object, final int threads) {
+        this(object, threads, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Size of thread pool
+     * @param millis Timeout of the whole run in milliseconds
+     */
+    public RunsInThreads(final T object, final int threads, final long millis) {
+        this(
+            object, threads, 1, millis,
+            new MatcherOf<RunStatistics>(
+                run -> true,
+                desc -> { },
+                (run, desc) -> { }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Size of thread pool
+     * @param matcher Matcher for the statistics of the run
+     */
+    public RunsInThreads(
+        final T object, final int threads,
+        final Matcher<? super RunStatistics> matcher
+    ) {
+        this(object, threads, 1, matcher);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Size of thread pool
+     * @param invocations Invocations of the func in every thread
+     * @param matcher Matcher for the statistics of the run
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public RunsInThreads(
+        final T object, final int threads, final int invocations,
+        final Matcher<? super RunStatistics> matcher
+    ) {
+        this(object, threads, invocations, Long.MAX_VALUE, matcher);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Size of thread pool
+     * @param invocations Invocations of the func in every thread
+     * @param millis Timeout of the whole run in milliseconds
+     * @param matcher Matcher for the statistics of the run
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public RunsInThreads(
+        final T object, final int threads, final int invocations,
+        final long millis, final Matcher<? super RunStatistics> matcher
+    ) {
+        this(
+            object, threads, invocations, millis,
+            new MatcherOf<RunStatistics>(
+                matcher::matches,
+                desc -> desc.appendText(" with ").appendDescriptionOf(matcher),
+                (run, desc) -> matcher.describeMismatch(run, desc)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Size of thread pool
+     * @param invocations Invocations of the func in every thread
+     * @param millis Timeout of the whole run in milliseconds
+     * @param matcher Matcher for the statistics of the run, which describes
+     *  itself as a suffix of this matcher's description
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private RunsInThreads(
+        final T object, final int threads, final int invocations,
+        final long millis, final MatcherOf<RunStatistics> matcher
+    ) {
         super();
-        this.input = object;
         this.total = threads;
+        this.workers = new Workers<>(object, threads, invocations, millis);
+        this.stats = matcher;
+        this.verdicts = new Verdicts<>(this::ran);
     }
 
     @Override
@@ -91,33 +202,7 @@ public final class RunsInThreads<T> extends TypeSafeDiagnosingMatcher<Func<? sup
         final Func<? super T, Boolean> func,
         final Description desc
     ) {
-        final ExecutorService service = Executors.newFixedThreadPool(
-            this.total
-        );
-        final CountDownLatch latch = new CountDownLatch(1);
-        final List<Future<Boolean>> futures = new ArrayList<>(this.total);
-        final Callable<Boolean> task = () -> {
-            latch.await();
-            return func.apply(this.input);
-        };
-        for (int thread = 0; thread < this.total; ++thread) {
-            futures.add(service.submit(task));
-        }
-        latch.countDown();
-        final int matching = new SumOf(
-            new Mapped<>(
-                f -> new Ternary<>(f.get(), 1, 0).value(),
-                futures
-            )
-        ).intValue();
-        service.shutdown();
-        if (matching != this.total) {
-            desc
-                .appendText("ran successfuly in ")
-                .appendValue(matching)
-                .appendText(" threads");
-        }
-        return matching == this.total;
+        return this.verdicts.matches(func, desc);
     }
 
     @Override
@@ -126,5 +211,55 @@ public final class RunsInThreads<T> extends TypeSafeDiagnosingMatcher<Func<? sup
             .appendText("runs in ")
             .appendValue(this.total)
             .appendText(" threads successfuly");
+        this.stats.describeTo(description);
+    }
+
+    /**
+     * Run the func in all threads and check the run.
+     * @param func The func
+     * @param desc Description of the mismatch
+     * @return Whether the run succeeded and its statistics match
+     */
+    private boolean ran(
+        final Func<? super T, Boolean> func,
+        final Description desc
+    ) {
+        boolean matches;
+        try {
+            matches = this.matched(this.workers.run(func), desc);
+        } catch (final TimeoutException ex) {
+            desc.appendText(ex.getMessage());
+            matches = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        return matches;
+    }
+
+    /**
+     * Check the statistics of a run.
+     * @param run Statistics of the run
+     * @param desc Description of the mismatch
+     * @return Whether the run succeeded in all threads and its statistics
+     *  match
+     */
+    private boolean matched(final RunStatistics run, final Description desc) {
+        boolean matches = run.successes() == this.total;
+        if (matches) {
+            matches = this.stats.matches(run);
+            if (!matches) {
+                this.stats.describeMismatch(run, desc);
+            }
+        } else {
+            desc
+                .appendText("ran successfuly in ")
+                .appendValue(run.successes())
+                .appendText(" threads");
+        }
+        if (!matches) {
+            desc.appendText("; ").appendText(run.toString());
+        }
+        return matches;
     }
 }
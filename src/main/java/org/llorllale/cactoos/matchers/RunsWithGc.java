@@ -0,0 +1,246 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for the garbage collections a {@link Func} causes.
+ *
+ * <p>The {@link Func} is invoked once in the current thread, while the
+ * collection counts and times of all garbage collectors are snapshot
+ * around it, and the duration of every collection is taken from the
+ * notifications of the collectors. The {@link GcActivity} can then be
+ * checked with {@link HasCollections} and {@link HasMaxPause}:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not collect garbage in the inner loop",
+ *      (Func<long[], Long>) array -> new Sum(array).value(),
+ *      new RunsWithGc<>(new long[1_000_000], new HasCollections(0L))
+ *  ).affirm();
+ * }</pre>
+ *
+ * <p>Notifications arrive asynchronously, so after the run the matcher
+ * waits up to a second for the ones of the counted collections, and
+ * ignores the late ones of collections that ended before the run. Each
+ * {@link Func} is run once per match, and the mismatch of that run is
+ * reused to describe it.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class RunsWithGc<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, ?>> {
+
+    /**
+     * How long to wait for notifications, in nanoseconds.
+     */
+    private static final long GRACE = TimeUnit.SECONDS.toNanos(1L);
+
+    /**
+     * Type of notifications of garbage collections.
+     */
+    private static final String NOTIFICATION =
+        GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION;
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Matcher for the garbage collections.
+     */
+    private final Matcher<? super GcActivity> matcher;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, ?>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param matcher Matcher for the garbage collections
+     */
+    public RunsWithGc(
+        final T object, final Matcher<? super GcActivity> matcher
+    ) {
+        super();
+        this.input = object;
+        this.matcher = matcher;
+        this.verdicts = new Verdicts<>(this::collected);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("runs with garbage collection ")
+            .appendDescriptionOf(this.matcher);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Run the func, watching the garbage collections, and match them.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether the garbage collections match
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean collected(
+        final Func<? super T, ?> func, final Description desc
+    ) {
+        final List<GarbageCollectorMXBean> collectors =
+            ManagementFactory.getGarbageCollectorMXBeans();
+        final AtomicLong notified = new AtomicLong();
+        final AtomicLong longest = new AtomicLong();
+        final Map<String, Long> ids = new ConcurrentHashMap<>(0);
+        final NotificationListener listener = (notification, handback) -> {
+            if (RunsWithGc.NOTIFICATION.equals(notification.getType())) {
+                final GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from(
+                        (CompositeData) notification.getUserData()
+                    );
+                final Long last = ids.get(info.getGcName());
+                if (last != null && info.getGcInfo().getId() > last) {
+                    longest.accumulateAndGet(
+                        TimeUnit.MILLISECONDS.toNanos(
+                            info.getGcInfo().getDuration()
+                        ),
+                        Math::max
+                    );
+                    notified.incrementAndGet();
+                }
+            }
+        };
+        final List<NotificationEmitter> emitters = new ArrayList<>(0);
+        for (final GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                final NotificationEmitter emitter =
+                    (NotificationEmitter) collector;
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+        final GcActivity activity;
+        try {
+            final long[] before = RunsWithGc.totals(collectors, ids);
+            try {
+                func.apply(this.input);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            final long[] after = RunsWithGc.totals(
+                collectors, new HashMap<>(0)
+            );
+            final long count = after[0] - before[0];
+            final long start = System.nanoTime();
+            while (notified.get() < count
+                && System.nanoTime() - start < RunsWithGc.GRACE) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+            }
+            activity = new GcActivity(
+                count,
+                TimeUnit.MILLISECONDS.toNanos(after[1] - before[1]),
+                longest.get()
+            );
+        } finally {
+            for (final NotificationEmitter emitter : emitters) {
+                RunsWithGc.remove(emitter, listener);
+            }
+        }
+        final boolean matches = this.matcher.matches(activity);
+        if (!matches) {
+            this.matcher.describeMismatch(activity, desc);
+        }
+        return matches;
+    }
+
+    /**
+     * Collection count and time of all collectors.
+     *
+     * <p>The count of every collector is also the id of its last
+     * collection, so it is put in the map to tell the notifications
+     * of later collections.</p>
+     * @param collectors Collectors
+     * @param ids Where to put the last collection id of every collector
+     * @return Count and time in milliseconds
+     */
+    private static long[] totals(
+        final Iterable<GarbageCollectorMXBean> collectors,
+        final Map<String, Long> ids
+    ) {
+        final long[] totals = new long[2];
+        for (final GarbageCollectorMXBean collector : collectors) {
+            final long count = Math.max(0L, collector.getCollectionCount());
+            ids.put(collector.getName(), count);
+            totals[0] += count;
+            totals[1] += Math.max(0L, collector.getCollectionTime());
+        }
+        return totals;
+    }
+
+    /**
+     * Stop listening to a collector.
+     * @param emitter Collector
+     * @param listener Listener
+     */
+    private static void remove(
+        final NotificationEmitter emitter, final NotificationListener listener
+    ) {
+        try {
+            emitter.removeNotificationListener(listener);
+        } catch (final ListenerNotFoundException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for {@link Func} whose throughput must scale with the number of
+ * threads running it.
+ *
+ * <p>The {@link Func} is run the same way as {@link RunsInThreads} does,
+ * with 1, 2, 4... threads up to the given number, each level for a fixed
+ * duration. The parallel efficiency of a level is its throughput divided
+ * by the throughput of one thread times the number of threads, and it
+ * must be at least the given one at every level. A level of one thread
+ * is run first and discarded, so that the code is warmed up before the
+ * throughput of one thread is measured. Each {@link Func} is run once
+ * per match, and the mismatch of that run is reused to describe
+ * it.</p>
+ *
+ * <p>Here is an example how {@link ScalesInThreads} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must scale at least 0.7 times linearly up to 8 threads",
+ *      map -> map.get("key") != null,
+ *      new ScalesInThreads<>(new ConcurrentHashMap<>(fixture), 8, 0.7)
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+public final class ScalesInThreads<T> extends
+    TypeSafeDiagnosingMatcher<Func<? super T, Boolean>> {
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Maximum number of threads.
+     */
+    private final int total;
+
+    /**
+     * Minimum parallel efficiency.
+     */
+    private final double minimum;
+
+    /**
+     * Duration of every level in milliseconds.
+     */
+    private final long millis;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Func<? super T, Boolean>> verdicts;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Maximum number of threads
+     * @param minimum Minimum parallel efficiency, e.g. 0.7
+     */
+    public ScalesInThreads(
+        final T object, final int threads, final double minimum
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(object, threads, minimum, 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Maximum number of threads
+     * @param minimum Minimum parallel efficiency, e.g. 0.7
+     * @param duration Duration of every level in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ScalesInThreads(
+        final T object, final int threads, final double minimum,
+        final long duration
+    ) {
+        super();
+        this.input = object;
+        this.total = threads;
+        this.minimum = minimum;
+        this.millis = duration;
+        this.verdicts = new Verdicts<>(this::scaled);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc
+            .appendText("scales up to ")
+            .appendValue(this.total)
+            .appendText(" threads with parallel efficiency of at least ")
+            .appendValue(this.minimum);
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Func<? super T, Boolean> func,
+        final Description desc
+    ) {
+        return this.verdicts.matches(func, desc);
+    }
+
+    /**
+     * Run the func at every level and check its efficiency.
+     * @param func The func
+     * @param desc Where to describe the mismatch
+     * @return Whether it is efficient enough at every level
+     */
+    private boolean scaled(
+        final Func<? super T, Boolean> func,
+        final Description desc
+    ) {
+        final List<RunStatistics> curve = new ArrayList<>(0);
+        boolean matches = true;
+        try {
+            this.level(func, 1);
+            for (int threads = 1; matches && threads <= this.total;
+                threads = ScalesInThreads.next(threads, this.total)) {
+                final RunStatistics run = this.level(func, threads);
+                curve.add(run);
+                matches = run.successes() == threads
+                    && this.efficient(run, curve.get(0));
+            }
+        } catch (final TimeoutException ex) {
+            desc.appendText(ex.getMessage())
+                .appendText(System.lineSeparator());
+            matches = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        if (!matches) {
+            desc.appendText("scaled as");
+            for (final RunStatistics run : curve) {
+                desc.appendText(System.lineSeparator()).appendText(
+                    String.format(
+                        Locale.ENGLISH,
+                        "%d threads: %.1f ops/s, efficiency %.2f, %d failed",
+                        run.threads(), run.throughput(),
+                        ScalesInThreads.efficiency(run, curve.get(0)),
+                        run.threads() - run.successes()
+                    )
+                );
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Run the func in a number of threads for the duration of a level.
+     * @param func The func
+     * @param threads Number of threads
+     * @return Statistics of the run
+     * @throws TimeoutException If the threads deadlock or time out
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private RunStatistics level(
+        final Func<? super T, Boolean> func, final int threads
+    ) throws TimeoutException, InterruptedException {
+        return new Workers<>(
+            this.input, threads, Integer.MAX_VALUE,
+            TimeUnit.MILLISECONDS.toNanos(this.millis),
+            Long.MAX_VALUE
+        ).run(func);
+    }
+
+    /**
+     * Whether the run is efficient enough.
+     * @param run Statistics of the run
+     * @param single Statistics of the run in one thread
+     * @return True if efficient enough
+     */
+    private boolean efficient(
+        final RunStatistics run, final RunStatistics single
+    ) {
+        return ScalesInThreads.efficiency(run, single) >= this.minimum;
+    }
+
+    /**
+     * Parallel efficiency of a run.
+     * @param run Statistics of the run
+     * @param single Statistics of the run in one thread
+     * @return Efficiency, 1 for linear scaling
+     */
+    private static double efficiency(
+        final RunStatistics run, final RunStatistics single
+    ) {
+        return run.throughput() / (single.throughput() * run.threads());
+    }
+
+    /**
+     * Next number of threads: the next power of two, or the maximum.
+     * @param threads Current number of threads
+     * @param max Maximum number of threads
+     * @return Next number of threads, above the maximum after it
+     */
+    private static int next(final int threads, final int max) {
+        int next = threads << 1;
+        if (threads < max && next > max) {
+            next = max;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor shared by all matchers that evaluate in the background.
+ *
+ * <p>The underlying pool is created on first use and lives as long as the
+ * JVM. Its threads are virtual ones, if the JVM supports them, or
+ * otherwise daemon threads that are reused while busy and discarded
+ * after a minute of idling, so that neither a thread is created per
+ * evaluation nor the JVM is prevented from exiting.</p>
+ *
+ * <p>Tasks that need a platform thread, e.g. to measure its CPU time,
+ * which the JVM does not account for virtual threads, run on a separate
+ * pool of daemon threads. Periodic tasks run on a third one, a
+ * scheduler of daemon threads.</p>
+ *
+ * @since 1.0.0
+ */
+final class SharedExecutor {
+
+    /**
+     * Whether tasks must run on platform threads.
+     */
+    private final boolean platform;
+
+    /**
+     * Ctor.
+     */
+    SharedExecutor() {
+        this(false);
+    }
+
+    /**
+     * Ctor.
+     * @param platform Whether tasks must run on platform threads
+     */
+    SharedExecutor(final boolean platform) {
+        this.platform = platform;
+    }
+
+    /**
+     * Submit a task.
+     * @param task Task to run
+     * @param <T> Type of result
+     * @return Future of the task, which interrupts the task when cancelled
+     */
+    <T> Future<T> submit(final Callable<T> task) {
+        final ExecutorService pool;
+        if (this.platform) {
+            pool = Platform.INSTANCE;
+        } else {
+            pool = Pool.INSTANCE;
+        }
+        return pool.submit(task);
+    }
+
+    /**
+     * Run a task periodically, at a fixed rate, starting now.
+     * @param nanos Period in nanoseconds
+     * @param task Task to run
+     * @return Future of the task, to cancel it with
+     */
+    ScheduledFuture<?> every(final long nanos, final Runnable task) {
+        return Scheduler.INSTANCE.scheduleAtFixedRate(
+            task, 0L, nanos, TimeUnit.NANOSECONDS
+        );
+    }
+
+    /**
+     * Cached pool of daemon threads.
+     * @return Pool
+     */
+    private static ExecutorService daemons() {
+        return Executors.newCachedThreadPool(SharedExecutor.factory());
+    }
+
+    /**
+     * Factory of daemon threads, named so that {@link LeavesNoThreads}
+     * does not take them for threads of a pool leaked by the code
+     * under test.
+     * @return Factory
+     */
+    private static ThreadFactory factory() {
+        final ThreadFactory factory = Executors.defaultThreadFactory();
+        return runnable -> {
+            final Thread thread = factory.newThread(runnable);
+            thread.setDaemon(true);
+            thread.setName(
+                String.format("cactoos-matchers-%s", thread.getName())
+            );
+            return thread;
+        };
+    }
+
+    /**
+     * Lazily created pool.
+     *
+     * @since 1.0.0
+     */
+    private static final class Pool {
+
+        /**
+         * The pool.
+         */
+        private static final ExecutorService INSTANCE = Pool.created();
+
+        /**
+         * Ctor.
+         */
+        private Pool() {
+        }
+
+        /**
+         * Executor of virtual threads, or a cached pool of daemon threads
+         * on JVMs without virtual threads.
+         * @return Pool
+         */
+        private static ExecutorService created() {
+            ExecutorService pool;
+            try {
+                pool = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            } catch (final ReflectiveOperationException ex) {
+                pool = SharedExecutor.daemons();
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * Lazily created pool of platform threads.
+     *
+     * @since 1.0.0
+     */
+    private static final class Platform {
+
+        /**
+         * The pool.
+         */
+        private static final ExecutorService INSTANCE =
+            SharedExecutor.daemons();
+
+        /**
+         * Ctor.
+         */
+        private Platform() {
+        }
+    }
+
+    /**
+     * Lazily created scheduler.
+     *
+     * @since 1.0.0
+     */
+    private static final class Scheduler {
+
+        /**
+         * The scheduler.
+         */
+        private static final ScheduledExecutorService INSTANCE =
+            Executors.newScheduledThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                SharedExecutor.factory()
+            );
+
+        /**
+         * Ctor.
+         */
+        private Scheduler() {
+        }
+    }
+}
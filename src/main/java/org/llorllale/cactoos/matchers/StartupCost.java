@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+/**
+ * Cost of a first invocation: the classes it loaded and the time it took.
+ *
+ * <p>Classes are counted in the whole JVM, so the ones loaded by other
+ * threads running at the same time count too.</p>
+ *
+ * @since 1.0.0
+ */
+public final class StartupCost {
+
+    /**
+     * Number of classes loaded.
+     */
+    private final long loaded;
+
+    /**
+     * Elapsed time in nanoseconds.
+     */
+    private final long elapsed;
+
+    /**
+     * Ctor.
+     * @param classes Number of classes loaded
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public StartupCost(final long classes, final long nanos) {
+        this.loaded = classes;
+        this.elapsed = nanos;
+    }
+
+    /**
+     * Number of classes loaded.
+     * @return Count
+     */
+    public long classes() {
+        return this.loaded;
+    }
+
+    /**
+     * Elapsed time.
+     * @return Nanoseconds
+     */
+    public long time() {
+        return this.elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d classes loaded in %s", this.loaded, new Nanos(this.elapsed)
+        );
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher to check that the value of a {@link Scalar} keeps matching for
+ * a while.
+ *
+ * <p>The value is sampled at a fixed rate on a background scheduler for
+ * the whole duration, e.g. while a workload runs in other threads, and
+ * the matcher fails as soon as a sample does not match. A value that
+ * fails to be taken does not match either. On mismatch the sample that
+ * did not match is described, along with the number of samples taken,
+ * the smallest and the largest of them, if their values are
+ * {@link Comparable}, and the time series of the last ten samples. Each {@link Scalar} is sampled once per match,
+ * and the mismatch of that sampling is reused to describe it.</p>
+ *
+ * <p>Here is an example how {@link StaysWithin} can be used:</p>
+ * <pre>{@code
+ *  new Assertion<>(
+ *      "must not leak connections under load",
+ *      pool::active,
+ *      new StaysWithin<>(
+ *          30_000L, 100L,
+ *          new IsComparableLessThanOrEqualTo<>(16)
+ *      )
+ *  ).affirm();
+ * }</pre>
+ *
+ * @param <T> Type of the scalar's value
+ * @since 1.0.0
+ * @checkstyle ProtectedMethodInFinalClassCheck (200 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class StaysWithin<T> extends
+    TypeSafeDiagnosingMatcher<Scalar<? extends T>> {
+
+    /**
+     * Duration in milliseconds.
+     */
+    private final long duration;
+
+    /**
+     * Sampling period in milliseconds.
+     */
+    private final long period;
+
+    /**
+     * Matcher for every sample.
+     */
+    private final Matcher<? super T> matcher;
+
+    /**
+     * Failed verdict, kept to describe its mismatch.
+     */
+    private final Verdicts<Scalar<? extends T>> verdicts;
+
+    /**
+     * Ctor.
+     * @param millis Duration in milliseconds
+     * @param period Sampling period in milliseconds
+     * @param matcher Matcher for every sample
+     */
+    public StaysWithin(
+        final long millis, final long period, final Matcher<? super T> matcher
+    ) {
+        super();
+        this.duration = millis;
+        this.period = period;
+        this.matcher = matcher;
+        this.verdicts = new Verdicts<>(this::sampled);
+    }
+
+    @Override
+    public void describeTo(final Description desc) {
+        desc.appendText("stays ")
+            .appendDescriptionOf(this.matcher)
+            .appendText(" for ")
+            .appendValue(this.duration)
+            .appendText(" milliseconds, sampled every ")
+            .appendValue(this.period)
+            .appendText(" milliseconds");
+    }
+
+    @Override
+    protected boolean matchesSafely(
+        final Scalar<? extends T> scalar, final Description desc
+    ) {
+        return this.verdicts.matches(scalar, desc);
+    }
+
+    /**
+     * Sample the scalar for the whole duration or until a sample does
+     * not match.
+     * @param scalar Scalar to sample
+     * @param desc Where to describe the mismatch
+     * @return Whether all the samples match
+     */
+    private boolean sampled(
+        final Scalar<? extends T> scalar, final Description desc
+    ) {
+        final StaysWithin.Series series = new StaysWithin.Series();
+        final Description violation = new StringDescription();
+        final CountDownLatch violated = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final Future<?> sampler = new SharedExecutor().every(
+            TimeUnit.MILLISECONDS.toNanos(this.period),
+            () -> {
+                synchronized (series) {
+                    if (series.open()
+                        && !this.sample(scalar, start, series, violation)) {
+                        series.close();
+                        violated.countDown();
+                    }
+                }
+            }
+        );
+        try {
+            violated.await(this.duration, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            sampler.cancel(false);
+        }
+        final boolean matches;
+        synchronized (series) {
+            matches = series.open();
+            series.close();
+        }
+        if (!matches) {
+            desc.appendText(violation.toString())
+                .appendText(", after ");
+            series.describeTo(desc);
+        }
+        return matches;
+    }
+
+    /**
+     * Take a sample and match it.
+     * @param scalar Scalar to sample
+     * @param start When sampling started, in nanoseconds
+     * @param series Where to record the sample
+     * @param mismatch Where to describe the mismatch
+     * @return Whether the sample matches
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private boolean sample(
+        final Scalar<? extends T> scalar, final long start,
+        final StaysWithin.Series series, final Description mismatch
+    ) {
+        final String time = new Nanos(System.nanoTime() - start).toString();
+        boolean matches = false;
+        try {
+            final T value = scalar.value();
+            series.add(value, time);
+            matches = this.matcher.matches(value);
+            if (!matches) {
+                this.matcher.describeMismatch(value, mismatch);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            series.add(ex, time);
+            mismatch.appendText("threw ").appendValue(ex);
+        }
+        if (!matches) {
+            mismatch.appendText(" at ").appendText(time);
+        }
+        return matches;
+    }
+
+    /**
+     * Samples taken: their number, the smallest and the largest of them
+     * while they are comparable to each other, and the last ones with the
+     * time they were taken at.
+     *
+     * <p>The sampler records into it while holding its lock, so that once
+     * it is closed no sample is recorded any more.</p>
+     *
+     * @since 1.0.0
+     */
+    private static final class Series {
+
+        /**
+         * Index of the smallest sample in bounds.
+         */
+        private static final int LOWEST = 0;
+
+        /**
+         * Index of the largest sample in bounds.
+         */
+        private static final int HIGHEST = 1;
+
+        /**
+         * Number of last samples kept.
+         */
+        private static final int LAST = 10;
+
+        /**
+         * Samples taken.
+         */
+        private final long[] samples;
+
+        /**
+         * Smallest and largest sample.
+         */
+        private final Object[] bounds;
+
+        /**
+         * Whether the samples are comparable so far, and whether more
+         * samples may be recorded.
+         */
+        private final boolean[] flags;
+
+        /**
+         * Last samples, with the time they were taken at.
+         */
+        private final Deque<String> last;
+
+        /**
+         * Ctor.
+         */
+        Series() {
+            this.samples = new long[1];
+            this.bounds = new Object[2];
+            this.flags = new boolean[]{true, true};
+            this.last = new ArrayDeque<>(Series.LAST);
+        }
+
+        /**
+         * Whether more samples may be recorded.
+         * @return True until it is closed
+         */
+        synchronized boolean open() {
+            return this.flags[1];
+        }
+
+        /**
+         * Stop recording samples.
+         */
+        synchronized void close() {
+            this.flags[1] = false;
+        }
+
+        /**
+         * Record a sample.
+         * @param sample The sample
+         * @param time When it was taken, since sampling started
+         */
+        @SuppressWarnings("unchecked")
+        synchronized void add(final Object sample, final String time) {
+            this.samples[0] += 1L;
+            if (this.last.size() == Series.LAST) {
+                this.last.removeFirst();
+            }
+            this.last.addLast(
+                new StringDescription()
+                    .appendValue(sample)
+                    .appendText(" at ")
+                    .appendText(time)
+                    .toString()
+            );
+            final Object lowest = this.bounds[Series.LOWEST];
+            this.flags[0] = this.flags[0]
+                && sample instanceof Comparable
+                && (lowest == null
+                || lowest.getClass().equals(sample.getClass()));
+            if (this.flags[0]) {
+                final Comparable<Object> value = (Comparable<Object>) sample;
+                if (lowest == null || value.compareTo(lowest) < 0) {
+                    this.bounds[Series.LOWEST] = sample;
+                }
+                final Object highest = this.bounds[Series.HIGHEST];
+                if (highest == null || value.compareTo(highest) > 0) {
+                    this.bounds[Series.HIGHEST] = sample;
+                }
+            }
+        }
+
+        /**
+         * Describe the samples.
+         * @param desc Where to describe them
+         */
+        synchronized void describeTo(final Description desc) {
+            desc.appendValue(this.samples[0]).appendText(" samples");
+            if (this.flags[0] && this.bounds[Series.LOWEST] != null) {
+                desc.appendText(" from ")
+                    .appendValue(this.bounds[Series.LOWEST])
+                    .appendText(" to ")
+                    .appendValue(this.bounds[Series.HIGHEST]);
+            }
+            desc.appendText(", the last ones being ")
+                .appendText(String.join(", ", this.last));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Stack traces of threads and of the owners of the locks they wait for.
+ *
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class ThreadDump {
+
+    /**
+     * Thread management.
+     */
+    private final ThreadMXBean threads;
+
+    /**
+     * Ids of threads to dump.
+     */
+    private final Collection<Long> ids;
+
+    /**
+     * Ctor.
+     * @param mxbean Thread management
+     * @param ids Ids of threads to dump
+     */
+    ThreadDump(final ThreadMXBean mxbean, final Collection<Long> ids) {
+        this.threads = mxbean;
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        final Set<Long> all = new TreeSet<>(this.ids);
+        for (final ThreadInfo info : this.infos(all)) {
+            if (info != null && info.getLockOwnerId() >= 0L) {
+                all.add(info.getLockOwnerId());
+            }
+        }
+        final StringBuilder dump = new StringBuilder();
+        for (final ThreadInfo info : this.infos(all)) {
+            if (info != null) {
+                dump.append(System.lineSeparator())
+                    .append('"').append(info.getThreadName())
+                    .append("\" id=").append(info.getThreadId())
+                    .append(' ').append(info.getThreadState());
+                if (info.getLockName() != null) {
+                    dump.append(" on ").append(info.getLockName());
+                }
+                if (info.getLockOwnerName() != null) {
+                    dump.append(" owned by \"")
+                        .append(info.getLockOwnerName())
+                        .append("\" id=").append(info.getLockOwnerId());
+                }
+                for (final StackTraceElement frame : info.getStackTrace()) {
+                    dump.append(System.lineSeparator())
+                        .append("\tat ").append(frame);
+                }
+            }
+        }
+        return dump.toString();
+    }
+
+    /**
+     * Information about threads, including their full stacks.
+     * @param all Ids of the threads
+     * @return Information, null for threads that are no longer alive
+     */
+    private ThreadInfo[] infos(final Collection<Long> all) {
+        final long[] array = new long[all.size()];
+        int idx = 0;
+        for (final Long id : all) {
+            array[idx] = id;
+            ++idx;
+        }
+        return this.threads.getThreadInfo(
+            array,
+            this.threads.isObjectMonitorUsageSupported(),
+            this.threads.isSynchronizerUsageSupported()
+        );
+    }
+}
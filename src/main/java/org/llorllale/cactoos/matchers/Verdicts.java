@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+
+/**
+ * Verdict of a matcher that runs a workload, kept until its mismatch is
+ * described.
+ *
+ * <p>{@link org.hamcrest.TypeSafeDiagnosingMatcher} matches an item once
+ * to decide, and then once more to describe the mismatch. The last
+ * failed verdict is kept along with its mismatch, and the description of
+ * the mismatch of an equal item takes it, so the workload runs once and
+ * the mismatch described is the one of the run that failed. Any other
+ * match runs the workload again, so a mutable item is checked anew.</p>
+ *
+ * <p>The workload runs outside of any lock, so concurrent matches do not
+ * wait for each other; a verdict overwritten by another thread is just
+ * checked again when its mismatch is described.</p>
+ *
+ * @param <T> Type of item
+ * @since 1.0.0
+ */
+final class Verdicts<T> {
+
+    /**
+     * Check of an item, describing its mismatch.
+     */
+    private final BiFunc<? super T, ? super Description, Boolean> check;
+
+    /**
+     * Last failed verdict, if its mismatch is not described yet.
+     */
+    private final AtomicReference<Verdicts.Verdict> last;
+
+    /**
+     * Ctor.
+     * @param check Check of an item, describing its mismatch
+     */
+    Verdicts(final BiFunc<? super T, ? super Description, Boolean> check) {
+        this.check = check;
+        this.last = new AtomicReference<>();
+    }
+
+    /**
+     * Whether an item matches, reusing the failed verdict when describing
+     * its mismatch.
+     * @param item The item
+     * @param desc Where to describe the mismatch
+     * @return True if it matches
+     */
+    boolean matches(final T item, final Description desc) {
+        final Verdicts.Verdict verdict;
+        if (desc instanceof Description.NullDescription) {
+            verdict = this.checked(item);
+            if (verdict.matches(desc)) {
+                this.last.set(null);
+            } else {
+                this.last.set(verdict);
+            }
+        } else {
+            final Verdicts.Verdict kept = this.last.getAndSet(null);
+            if (kept != null && kept.about(item)) {
+                verdict = kept;
+            } else {
+                verdict = this.checked(item);
+            }
+        }
+        return verdict.matches(desc);
+    }
+
+    /**
+     * Check an item.
+     * @param item The item
+     * @return Verdict
+     */
+    private Verdicts.Verdict checked(final T item) {
+        final Description mismatch = new StringDescription();
+        return new Verdicts.Verdict(
+            item,
+            new UncheckedBiFunc<>(this.check).apply(item, mismatch),
+            mismatch.toString()
+        );
+    }
+
+    /**
+     * Verdict on an item.
+     *
+     * @since 1.0.0
+     */
+    private static final class Verdict {
+
+        /**
+         * The item.
+         */
+        private final Object item;
+
+        /**
+         * Whether the item matches.
+         */
+        private final boolean matched;
+
+        /**
+         * Mismatch.
+         */
+        private final String mismatch;
+
+        /**
+         * Ctor.
+         * @param item The item
+         * @param matched Whether the item matches
+         * @param mismatch Mismatch
+         */
+        Verdict(
+            final Object item,
+            final boolean matched,
+            final String mismatch
+        ) {
+            this.item = item;
+            this.matched = matched;
+            this.mismatch = mismatch;
+        }
+
+        /**
+         * Whether it is the verdict on an item.
+         * @param other The item
+         * @return True if the items are equal
+         */
+        boolean about(final Object other) {
+            return Objects.equals(this.item, other);
+        }
+
+        /**
+         * Whether the item matches.
+         * @param desc Where to describe the mismatch
+         * @return True if it matches
+         */
+        boolean matches(final Description desc) {
+            if (!this.matched) {
+                desc.appendText(this.mismatch);
+            }
+            return this.matched;
+        }
+    }
+}
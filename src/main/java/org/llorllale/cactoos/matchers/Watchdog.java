@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Waits for worker threads, watching them for deadlocks and a deadline.
+ *
+ * @since 1.0.0
+ */
+final class Watchdog {
+
+    /**
+     * How often to look for deadlocks, in nanoseconds.
+     */
+    private static final long PERIOD = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    /**
+     * Thread management.
+     */
+    private final ThreadMXBean threads;
+
+    /**
+     * Deadline in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Ctor.
+     * @param millis Deadline in milliseconds
+     */
+    Watchdog(final long millis) {
+        this(ManagementFactory.getThreadMXBean(), millis);
+    }
+
+    /**
+     * Ctor.
+     * @param mxbean Thread management
+     * @param millis Deadline in milliseconds
+     */
+    Watchdog(final ThreadMXBean mxbean, final long millis) {
+        this.threads = mxbean;
+        this.timeout = millis;
+    }
+
+    /**
+     * Wait until all tasks are done.
+     * @param tasks Tasks to wait for
+     * @param busy Ids of the threads still running a task
+     * @throws TimeoutException With the stack traces of the busy threads
+     *  and of the owners of the locks they wait for, if they deadlock or
+     *  do not finish in time
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void await(
+        final Collection<? extends Future<?>> tasks,
+        final Collection<Long> busy
+    ) throws TimeoutException, InterruptedException {
+        final long start = System.nanoTime();
+        final long deadline = TimeUnit.MILLISECONDS.toNanos(this.timeout);
+        for (final Future<?> task : tasks) {
+            while (
+                !Watchdog.done(
+                    task,
+                    Math.min(
+                        Watchdog.PERIOD,
+                        deadline - (System.nanoTime() - start)
+                    )
+                )
+            ) {
+                final long elapsed = System.nanoTime() - start;
+                final List<Long> locked = this.deadlocked(busy);
+                if (!locked.isEmpty()) {
+                    throw new TimeoutException(
+                        String.format(
+                            "deadlock of worker threads after %s:%s",
+                            new Nanos(elapsed),
+                            new ThreadDump(this.threads, locked)
+                        )
+                    );
+                }
+                if (elapsed >= deadline) {
+                    throw new TimeoutException(
+                        String.format(
+                            "timeout after %s, worker threads still running:%s",
+                            new Nanos(elapsed),
+                            new ThreadDump(
+                                this.threads, new ArrayList<>(busy)
+                            )
+                        )
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Ids of busy threads that are deadlocked.
+     * @param busy Ids of the threads still running a task
+     * @return Ids of the deadlocked ones
+     */
+    private List<Long> deadlocked(final Collection<Long> busy) {
+        final List<Long> locked = new ArrayList<>(0);
+        final long[] ids = this.threads.findDeadlockedThreads();
+        if (ids != null) {
+            for (final long id : ids) {
+                if (busy.contains(id)) {
+                    locked.add(id);
+                }
+            }
+        }
+        return locked;
+    }
+
+    /**
+     * Wait a bit for the task to finish.
+     * @param task Task to wait for
+     * @param nanos How long to wait at most, in nanoseconds
+     * @return Whether it is done
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private static boolean done(final Future<?> task, final long nanos)
+        throws InterruptedException {
+        boolean done;
+        try {
+            task.get(nanos, TimeUnit.NANOSECONDS);
+            done = true;
+        } catch (final TimeoutException | ExecutionException ex) {
+            done = task.isDone();
+        }
+        return done;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Func;
+
+/**
+ * Worker threads that apply a {@link Func} all at once.
+ *
+ * <p>All threads of a {@link Crew} are released together and every
+ * invocation of the {@link Func} is timed. Every thread invokes the
+ * {@link Func} a number of times, or until a duration is over, whichever
+ * comes first.</p>
+ *
+ * <p>Thread contention monitoring is enabled during the run, if the JVM
+ * supports it, so that the time the threads spend blocked and waiting
+ * is measured too.</p>
+ *
+ * @param <T> Type of input
+ * @since 1.0.0
+ */
+final class Workers<T> {
+
+    /**
+     * Thread management.
+     */
+    private final ThreadMXBean threads;
+
+    /**
+     * Input.
+     */
+    private final T input;
+
+    /**
+     * Invocations of the func in every thread.
+     */
+    private final int iterations;
+
+    /**
+     * How long every thread keeps invoking the func, in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * Threads to run the func in.
+     */
+    private final Crew crew;
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Number of threads
+     * @param invocations Invocations of the func in every thread
+     * @param millis Timeout of the whole run in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Workers(
+        final T object, final int threads, final int invocations,
+        final long millis
+    ) {
+        this(object, threads, invocations, Long.MAX_VALUE, millis);
+    }
+
+    /**
+     * Ctor.
+     * @param object Input object
+     * @param threads Number of threads
+     * @param invocations Invocations of the func in every thread
+     * @param nanos How long every thread keeps invoking the func, in
+     *  nanoseconds
+     * @param millis Timeout of the whole run in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Workers(
+        final T object, final int threads, final int invocations,
+        final long nanos, final long millis
+    ) {
+        this.threads = ManagementFactory.getThreadMXBean();
+        this.input = object;
+        this.iterations = invocations;
+        this.duration = nanos;
+        this.crew = new Crew(threads, millis);
+    }
+
+    /**
+     * Run the func in all threads at once.
+     * @param func Func to run
+     * @return Statistics of the run
+     * @throws TimeoutException If the threads deadlock or time out
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public RunStatistics run(final Func<? super T, Boolean> func)
+        throws TimeoutException, InterruptedException {
+        final boolean supported =
+            this.threads.isThreadContentionMonitoringSupported();
+        final boolean enabled = supported
+            && this.threads.isThreadContentionMonitoringEnabled();
+        if (supported) {
+            this.threads.setThreadContentionMonitoringEnabled(true);
+        }
+        try {
+            return this.monitored(func);
+        } finally {
+            if (supported) {
+                this.threads.setThreadContentionMonitoringEnabled(enabled);
+            }
+        }
+    }
+
+    /**
+     * Run the func in all threads at once, with contention monitored.
+     * @param func Func to run
+     * @return Statistics of the run
+     * @throws TimeoutException If the threads deadlock or time out
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private RunStatistics monitored(final Func<? super T, Boolean> func)
+        throws TimeoutException, InterruptedException {
+        final Collection<Contention> contention =
+            new ConcurrentLinkedQueue<>();
+        return this.crew.run(
+            (start, latency) -> this.applied(func, latency, contention),
+            contention
+        );
+    }
+
+    /**
+     * Apply the func in the current thread, timing every invocation.
+     * @param func Func to apply
+     * @param latency Where to record the latencies
+     * @param contention Where to record the contention of the thread
+     * @return Whether all invocations returned true
+     * @throws Exception If the func fails
+     */
+    private boolean applied(
+        final Func<? super T, Boolean> func, final Histogram latency,
+        final Collection<Contention> contention
+    ) throws Exception {
+        final long thread = Thread.currentThread().getId();
+        final ThreadInfo before = this.threads.getThreadInfo(thread);
+        boolean success = true;
+        final long first = System.nanoTime();
+        long end = first;
+        try {
+            for (int idx = 0; idx < this.iterations
+                && end - first < this.duration; ++idx) {
+                final long start = System.nanoTime();
+                final boolean result = func.apply(this.input);
+                end = System.nanoTime();
+                latency.add(end - start);
+                success = success && result;
+            }
+        } finally {
+            contention.add(
+                new Contention(before, this.threads.getThreadInfo(thread))
+            );
+        }
+        return success;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.hamcrest.core.StringEndsWith;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AllocatesAtMost}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class AllocatesAtMostTest {
+
+    @Test
+    void matchesAllocationFreeFunc() {
+        new Assertion<>(
+            "must match func that does not allocate",
+            new AllocatesAtMost<>(new long[]{1L, 2L, 3L}, 0L),
+            new Matches<Func<long[], ?>>(
+                array -> {
+                    long sum = 0L;
+                    for (final long item : array) {
+                        sum += item;
+                    }
+                    return array[(int) (sum % array.length)];
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void reportsAllocatedBytes() {
+        new Assertion<>(
+            "must report the bytes allocated per call",
+            () -> {
+                new Assertion<>(
+                    "must allocate little",
+                    (Func<Integer, ?>) size -> new byte[size],
+                    new AllocatesAtMost<>(64, 16L, 100, 1000)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: allocated "),
+                    new StringContains(" bytes per call, <"),
+                    new StringEndsWith("L> bytes in <1000> calls")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new AllocatesAtMost<>(new Object(), 0L).describeTo(desc);
+        new Assertion<>(
+            "must describe the budget",
+            desc.toString(),
+            new IsEqual<>("allocates at most <0L> bytes per call")
+        ).affirm();
+    }
+}
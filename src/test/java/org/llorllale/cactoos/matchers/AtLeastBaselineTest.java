@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link AtLeastBaseline}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AtLeastBaselineTest {
+
+    @Test
+    void recordsFirstMeasurement(@TempDir final Path dir) {
+        final Path file = dir.resolve("baseline.properties");
+        new Assertion<>(
+            "must match the first measurement",
+            1000.0,
+            new AtLeastBaseline(file, "ops", 0.1)
+        ).affirm();
+        new Assertion<>(
+            "must match a measurement within the tolerance",
+            950.0,
+            new AtLeastBaseline(file, "ops", 0.1)
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesRegression(@TempDir final Path dir) {
+        final Path file = dir.resolve("baseline.properties");
+        new AtLeastBaseline(file, "ops", 0.1).matches(1000.0);
+        new Assertion<>(
+            "must mismatch a measurement below the tolerance",
+            new AtLeastBaseline(file, "ops", 0.1),
+            new Mismatches<>(
+                850.0,
+                String.format(
+                    "not more than 10.0%% below the baseline \"ops\" in %s",
+                    file
+                ),
+                "<850.0> is 15.0% below the baseline <1000.0>"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void readsBaselineOncePerAssertion(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("baseline.properties");
+        final Matcher<Number> matcher = new AtLeastBaseline(file, "ops", 0.1);
+        matcher.matches(1000.0);
+        matcher.matches(850.0);
+        Files.write(file, "ops=2000.0".getBytes(StandardCharsets.UTF_8));
+        final Description desc = new StringDescription();
+        matcher.describeMismatch(850.0, desc);
+        new Assertion<>(
+            "must describe the mismatch against the baseline it matched",
+            desc.toString(),
+            new IsEqual<>("<850.0> is 15.0% below the baseline <1000.0>")
+        ).affirm();
+    }
+
+    @Test
+    void updatesBaselineOnRequest(@TempDir final Path dir) {
+        final Path file = dir.resolve("baseline.properties");
+        new AtLeastBaseline(file, "ops", 0.1).matches(1000.0);
+        new AtLeastBaseline(file, "other", 0.1).matches(1000.0);
+        System.setProperty("cactoos.matchers.baseline.update", "true");
+        try {
+            new AtLeastBaseline(file, "ops", 0.1).matches(500.0);
+        } finally {
+            System.clearProperty("cactoos.matchers.baseline.update");
+        }
+        new Assertion<>(
+            "must compare to the updated baseline",
+            460.0,
+            new AtLeastBaseline(file, "ops", 0.1)
+        ).affirm();
+        new Assertion<>(
+            "must keep the baselines of other keys",
+            460.0,
+            new IsNot<>(new AtLeastBaseline(file, "other", 0.1))
+        ).affirm();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link AtMostBaseline}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AtMostBaselineTest {
+
+    @Test
+    void matchesWithinTolerance(@TempDir final Path dir) {
+        final Path file = dir.resolve("baseline.properties");
+        new AtMostBaseline(file, "p99", 0.2).matches(2_000_000L);
+        new Assertion<>(
+            "must match a measurement within the tolerance",
+            2_300_000L,
+            new AtMostBaseline(file, "p99", 0.2)
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesRegression(@TempDir final Path dir) {
+        final Path file = dir.resolve("baseline.properties");
+        new AtMostBaseline(file, "p99", 0.2).matches(2_000_000L);
+        new Assertion<>(
+            "must mismatch a measurement above the tolerance",
+            new AtMostBaseline(file, "p99", 0.2),
+            new Mismatches<>(
+                3_000_000L,
+                String.format(
+                    "not more than 20.0%% above the baseline \"p99\" in %s",
+                    file
+                ),
+                "<3000000L> is 50.0% above the baseline <2000000.0>"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesZeroBaseline(@TempDir final Path dir) {
+        final Path file = dir.resolve("baseline.properties");
+        new AtMostBaseline(file, "bytes", 0.2).matches(0L);
+        new Assertion<>(
+            "must mismatch any measurement above a zero baseline",
+            new AtMostBaseline(file, "bytes", 0.2),
+            new Mismatches<>(
+                16L,
+                String.format(
+                    "not more than 20.0%% above the baseline \"bytes\" in %s",
+                    file
+                ),
+                "<16L> is above the baseline <0.0>"
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.text.TextOf;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.StringContains;
+import org.hamcrest.core.StringEndsWith;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BecomesReady}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class BecomesReadyTest {
+
+    @Test
+    void matchesReadyChild() {
+        new Assertion<>(
+            "must match a child JVM that prints the marker in time",
+            new BecomesReady(
+                "ready", 2, 60_000L, Collections.singletonList("-Xshare:auto"),
+                new HasPercentile(0.5, 60L, TimeUnit.SECONDS)
+            ),
+            new Matches<>(Ready.class)
+        ).affirm();
+    }
+
+    @Test
+    void describesChildNeverReady() {
+        new Assertion<>(
+            "must describe the output of the child JVM",
+            () -> {
+                new Assertion<>(
+                    "must become ready",
+                    Silent.class,
+                    new BecomesReady(
+                        "ready", 2, 60_000L, Collections.emptyList(),
+                        new HasPercentile(0.5, 60L, TimeUnit.SECONDS)
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains(
+                        "but: run <1> did not print \"ready\" within "
+                    ),
+                    new StringEndsWith("starting")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesTiming() {
+        new Assertion<>(
+            "must describe the marker and the runs",
+            new TextOf(
+                new StringDescription()
+                    .appendDescriptionOf(
+                        new BecomesReady(
+                            "ready",
+                            new HasPercentile(0.5, 1L, TimeUnit.SECONDS)
+                        )
+                    ).toString()
+            ),
+            new StartsWith(
+                "prints \"ready\" in <5> child JVMs with p50 in nanoseconds"
+            )
+        ).affirm();
+    }
+
+    /**
+     * Main class that becomes ready.
+     *
+     * @since 1.0.0
+     */
+    static final class Ready {
+
+        /**
+         * Ctor.
+         */
+        private Ready() {
+        }
+
+        /**
+         * Entry point.
+         * @param args Arguments
+         */
+        public static void main(final String... args) {
+            System.out.println("ready");
+        }
+    }
+
+    /**
+     * Main class that exits before it becomes ready.
+     *
+     * @since 1.0.0
+     */
+    static final class Silent {
+
+        /**
+         * Ctor.
+         */
+        private Silent() {
+        }
+
+        /**
+         * Entry point.
+         * @param args Arguments
+         */
+        public static void main(final String... args) {
+            System.out.println("starting");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Func;
+import org.cactoos.text.TextOf;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ClosesFiles}.
+ *
+ * @since 1.0.0
+ */
+final class ClosesFilesTest {
+
+    @Test
+    void matchesClosedFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(dir.resolve("closed"), new byte[1]);
+        new Assertion<>(
+            "must match when the file is closed",
+            new ClosesFiles<>(file),
+            new Matches<Func<Path, ?>>(
+                path -> {
+                    try (InputStream stream = Files.newInputStream(path)) {
+                        return stream.read();
+                    }
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesLeakedFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.write(dir.resolve("leaked"), new byte[1]);
+        final List<Closeable> leaked = new ArrayList<>(1);
+        try {
+            new Assertion<>(
+                "must describe the leaked file descriptor",
+                () -> {
+                    new Assertion<>(
+                        "must close the file",
+                        (Func<Path, ?>) path -> leaked.add(
+                            Files.newInputStream(path)
+                        ),
+                        new ClosesFiles<>(file, 0L, 1)
+                    ).affirm();
+                    return "discarded";
+                },
+                new Throws<>(
+                    new StringContains("but: leaked <1L> file descriptors, from "),
+                    AssertionError.class
+                )
+            ).affirm();
+        } finally {
+            for (final Closeable stream : leaked) {
+                stream.close();
+            }
+        }
+    }
+
+    @Test
+    void describesTolerance() {
+        new Assertion<>(
+            "must describe the tolerance",
+            new TextOf(
+                new StringDescription()
+                    .appendDescriptionOf(new ClosesFiles<>(new Object()))
+                    .toString()
+            ),
+            new StartsWith("leaks at most <0L> file descriptors")
+        ).affirm();
+    }
+}
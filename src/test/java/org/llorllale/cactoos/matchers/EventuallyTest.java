@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.text.MatchesPattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Eventually}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class EventuallyTest {
+
+    @Test
+    void matchesAsSoonAsValueMatches() {
+        final AtomicInteger attempts = new AtomicInteger(0);
+        new Assertion<>(
+            "must match once the value matches",
+            new Eventually<>(5000L, new IsEqual<>(3)),
+            new Matches<Scalar<Integer>>(attempts::incrementAndGet)
+        ).affirm();
+        new Assertion<>(
+            "must stop polling when the value matches",
+            attempts.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void retriesFailingValue() {
+        final AtomicInteger attempts = new AtomicInteger(0);
+        new Assertion<>(
+            "must treat failures to take the value as failed attempts",
+            new Eventually<>(5000L, new IsEqual<>(2)),
+            new Matches<Scalar<Integer>>(
+                () -> {
+                    if (attempts.incrementAndGet() < 2) {
+                        throw new IllegalStateException("not ready");
+                    }
+                    return attempts.get();
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void reportsLastMismatchAndAttempts() {
+        final AtomicInteger attempts = new AtomicInteger(0);
+        new Assertion<>(
+            "must describe the last mismatch of the polling that failed",
+            () -> {
+                new Assertion<>(
+                    "must be zero",
+                    (Scalar<Integer>) attempts::incrementAndGet,
+                    new Eventually<>(50L, 1L, 2.0, 10L, new IsEqual<>(0))
+                ).affirm();
+                return attempts.get();
+            },
+            new Throws<>(
+                new MatchesPattern(
+                    Pattern.compile(
+                        "(?s).*but: was <(\\d+)> after <\\1> attempts in .*ms"
+                    )
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new Eventually<>(5000L, new IsEqual<>(0)).describeTo(desc);
+        new Assertion<>(
+            "must describe the deadline",
+            desc.toString(),
+            new IsEqual<>("eventually <0> within <5000L> milliseconds")
+        ).affirm();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.list.ListOf;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HasContention}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+final class HasContentionTest {
+
+    @Test
+    void matchesContentionBelowRatio() {
+        new Assertion<>(
+            "must match blocked time below the ratio",
+            new HasContention(0.1),
+            new Matches<>(HasContentionTest.statistics())
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesContentionAboveRatio() {
+        new Assertion<>(
+            "must mismatch blocked time above the ratio",
+            new HasContention(0.01),
+            new Mismatches<>(
+                HasContentionTest.statistics(),
+                // @checkstyle LineLength (1 line)
+                "blocked time ratio a value less than <0.01> when compared by <NaturalOrdering>",
+                String.join(
+                    System.lineSeparator(),
+                    // @checkstyle LineLength (1 line)
+                    "blocked time ratio <0.05> was greater than <0.01> when compared by <NaturalOrdering> in 2 threads in 10.000ms, 200.0 ops/s, latency count=2, min=1.000ms, p50=1.000ms, p90=1.000ms, p99=1.000ms, p999=1.000ms, max=1.000ms",
+                    "first blocked 2 times for 1.000ms, waited 0 times for 0ns",
+                    "second blocked 0 times for 0ns, waited 1 times for 3.000ms"
+                )
+            )
+        ).affirm();
+    }
+
+    /**
+     * Statistics of two threads, one of them blocked for 1 ms in 10 ms.
+     * @return Statistics
+     */
+    private static RunStatistics statistics() {
+        final Histogram latency = new Histogram();
+        latency.add(1_000_000L);
+        latency.add(1_000_000L);
+        return new RunStatistics(
+            2, 2, 10_000_000L, latency,
+            new ListOf<>(
+                new Contention("first", 2L, 1_000_000L, 0L, 0L),
+                new Contention("second", 0L, 0L, 1L, 3_000_000L)
+            )
+        );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HasLatency}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HasLatencyTest {
+
+    @Test
+    void matchesLatencyBelowLimit() {
+        new Assertion<>(
+            "must match latency below the limit",
+            new HasLatency(0.99, 5L, TimeUnit.MILLISECONDS),
+            new Matches<>(HasLatencyTest.statistics())
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesLatencyAboveLimit() {
+        new Assertion<>(
+            "must mismatch latency above the limit",
+            new HasLatency(0.99, 2L, TimeUnit.MILLISECONDS),
+            new Mismatches<>(
+                HasLatencyTest.statistics(),
+                // @checkstyle LineLength (1 line)
+                "latency p99 in nanoseconds a value less than or equal to <2000000L> when compared by <NaturalOrdering>",
+                // @checkstyle LineLength (1 line)
+                "latency p99 <3000000L> was greater than <2000000L> when compared by <NaturalOrdering> in count=1, min=3.000ms, p50=3.000ms, p90=3.000ms, p99=3.000ms, p999=3.000ms, max=3.000ms"
+            )
+        ).affirm();
+    }
+
+    /**
+     * Statistics of a single invocation of 3 ms.
+     * @return Statistics
+     */
+    private static RunStatistics statistics() {
+        final Histogram latency = new Histogram();
+        latency.add(3_000_000L);
+        return new RunStatistics(1, 1, 3_000_000L, latency);
+    }
+}
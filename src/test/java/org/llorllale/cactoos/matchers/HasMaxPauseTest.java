@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HasMaxPause}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HasMaxPauseTest {
+
+    @Test
+    void matchesShortPauses() {
+        new Assertion<>(
+            "must match pauses shorter than the limit",
+            new HasMaxPause(10L, TimeUnit.MILLISECONDS),
+            new Matches<>(new GcActivity(2L, 8_000_000L, 5_000_000L))
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesLongPause() {
+        new Assertion<>(
+            "must mismatch a pause longer than the limit",
+            new HasMaxPause(10L, TimeUnit.MILLISECONDS),
+            new Mismatches<>(
+                new GcActivity(2L, 25_000_000L, 20_000_000L),
+                // @checkstyle LineLength (1 line)
+                "longest pause in nanoseconds a value less than or equal to <10000000L> when compared by <NaturalOrdering>",
+                // @checkstyle LineLength (1 line)
+                "longest pause <20000000L> was greater than <10000000L> when compared by <NaturalOrdering> in 2 collections in 25.000ms, longest 20.000ms"
+            )
+        ).affirm();
+    }
+}
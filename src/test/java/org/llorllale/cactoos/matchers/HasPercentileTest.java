@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HasPercentile}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HasPercentileTest {
+
+    @Test
+    void matchesPercentileBelowLimit() {
+        new Assertion<>(
+            "must match percentile below the limit",
+            new HasPercentile(0.5, 2L, TimeUnit.MILLISECONDS),
+            new Matches<>(HasPercentileTest.histogram())
+        ).affirm();
+    }
+
+    @Test
+    void matchesPercentileAtLimit() {
+        new Assertion<>(
+            "must match percentile equal to the limit",
+            new HasPercentile(1.0, 3L, TimeUnit.MILLISECONDS),
+            new Matches<>(HasPercentileTest.histogram())
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesPercentileAboveLimit() {
+        new Assertion<>(
+            "must mismatch percentile above the limit",
+            new HasPercentile(1.0, 2L, TimeUnit.MILLISECONDS),
+            new Mismatches<>(
+                HasPercentileTest.histogram(),
+                // @checkstyle LineLength (1 line)
+                "p100 in nanoseconds a value less than or equal to <2000000L> when compared by <NaturalOrdering>",
+                // @checkstyle LineLength (1 line)
+                "p100 <3000000L> was greater than <2000000L> when compared by <NaturalOrdering> in count=2, min=1.000ms, p50=1.008ms, p90=3.000ms, p99=3.000ms, p999=3.000ms, max=3.000ms"
+            )
+        ).affirm();
+    }
+
+    /**
+     * Durations of 1 ms and 3 ms.
+     * @return Histogram
+     */
+    private static Histogram histogram() {
+        final Histogram durations = new Histogram();
+        durations.add(1_000_000L);
+        durations.add(3_000_000L);
+        return durations;
+    }
+}
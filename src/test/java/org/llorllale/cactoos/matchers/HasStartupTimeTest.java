@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HasStartupTime}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HasStartupTimeTest {
+
+    @Test
+    void matchesFastStartup() {
+        new Assertion<>(
+            "must match a startup shorter than the limit",
+            new HasStartupTime(150L, TimeUnit.MILLISECONDS),
+            new Matches<>(new StartupCost(10L, 20_000_000L))
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesSlowStartup() {
+        new Assertion<>(
+            "must mismatch a startup longer than the limit",
+            new HasStartupTime(150L, TimeUnit.MILLISECONDS),
+            new Mismatches<>(
+                new StartupCost(10L, 200_000_000L),
+                // @checkstyle LineLength (1 line)
+                "startup time in nanoseconds a value less than or equal to <150000000L> when compared by <NaturalOrdering>",
+                // @checkstyle LineLength (1 line)
+                "startup time <200000000L> was greater than <150000000L> when compared by <NaturalOrdering> in 10 classes loaded in 200.000ms"
+            )
+        ).affirm();
+    }
+}
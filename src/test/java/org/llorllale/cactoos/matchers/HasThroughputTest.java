@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HasThroughput}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HasThroughputTest {
+
+    @Test
+    void matchesThroughputAboveMinimum() {
+        new Assertion<>(
+            "must match throughput above the minimum",
+            new HasThroughput(1000.0),
+            new Matches<>(HasThroughputTest.statistics())
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesThroughputBelowMinimum() {
+        new Assertion<>(
+            "must mismatch throughput below the minimum",
+            new HasThroughput(5000.0),
+            new Mismatches<>(
+                HasThroughputTest.statistics(),
+                // @checkstyle LineLength (1 line)
+                "throughput in ops/s a value equal to or greater than <5000.0> when compared by <NaturalOrdering>",
+                // @checkstyle LineLength (1 line)
+                "throughput <2000.0> was less than <5000.0> when compared by <NaturalOrdering> in 4 threads in 2.000ms, 2000.0 ops/s, latency count=4, min=1.000ms, p50=1.000ms, p90=1.000ms, p99=1.000ms, p999=1.000ms, max=1.000ms"
+            )
+        ).affirm();
+    }
+
+    /**
+     * Statistics of four invocations of 1 ms in 2 ms.
+     * @return Statistics
+     */
+    private static RunStatistics statistics() {
+        final Histogram latency = new Histogram();
+        for (int idx = 0; idx < 4; ++idx) {
+            latency.add(1_000_000L);
+        }
+        return new RunStatistics(4, 4, 2_000_000L, latency);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Histogram}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HistogramTest {
+
+    @Test
+    void recordsSmallValuesExactly() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1L; value <= 100L; ++value) {
+            histogram.add(value);
+        }
+        new Assertion<>(
+            "must report exact percentiles for small values",
+            histogram.percentile(0.99),
+            new IsEqual<>(99L)
+        ).affirm();
+        new Assertion<>(
+            "must report the mean",
+            histogram.mean(),
+            new IsEqual<>(50.5)
+        ).affirm();
+    }
+
+    @Test
+    void boundsErrorOfLargeValues() {
+        final Histogram histogram = new Histogram();
+        histogram.add(1_000_000L);
+        histogram.add(5_000_000L);
+        new Assertion<>(
+            "must report percentile within 1.6% of the value",
+            histogram.percentile(0.5),
+            new AllOf<>(
+                new IsComparableGreaterThanOrEqualTo<>(1_000_000L),
+                new IsComparableLessThan<>(1_016_000L)
+            )
+        ).affirm();
+        new Assertion<>(
+            "must report the exact maximum",
+            histogram.percentile(1.0),
+            new IsEqual<>(5_000_000L)
+        ).affirm();
+    }
+
+    @Test
+    void mergesHistograms() {
+        final Histogram first = new Histogram();
+        first.add(10L);
+        final Histogram second = new Histogram();
+        second.add(20L);
+        second.add(Long.MAX_VALUE);
+        first.add(second);
+        new Assertion<>(
+            "must merge counts",
+            first.count(),
+            new IsEqual<>(3L)
+        ).affirm();
+        new Assertion<>(
+            "must merge minimum",
+            first.min(),
+            new IsEqual<>(10L)
+        ).affirm();
+        new Assertion<>(
+            "must merge maximum",
+            first.max(),
+            new IsEqual<>(Long.MAX_VALUE)
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Histogram histogram = new Histogram();
+        histogram.add(1_500L);
+        histogram.add(2_000_000L);
+        new Assertion<>(
+            "must print the distribution",
+            histogram.toString(),
+            new IsEqual<>(
+                // @checkstyle LineLength (1 line)
+                "count=2, min=1.500us, p50=1.503us, p90=2.000ms, p99=2.000ms, p999=2.000ms, max=2.000ms"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsInvalidQuantile() {
+        new Assertion<>(
+            "must reject quantile above 1",
+            () -> new Histogram().percentile(1.5),
+            new Throws<>(
+                "Quantile 1.5 is not between 0 and 1",
+                IllegalArgumentException.class
+            )
+        ).affirm();
+    }
+}
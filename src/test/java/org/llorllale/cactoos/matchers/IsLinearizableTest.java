@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link IsLinearizable}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+final class IsLinearizableTest {
+
+    @Test
+    void matchesLinearizableObject() {
+        new Assertion<>(
+            "must match atomic register",
+            new IsLinearizable<>(
+                0,
+                new ListOf<>(
+                    new ListOf<>(new Write(1, true), new Read(), new Write(2, true)),
+                    new ListOf<>(new Read(), new Write(3, true), new Read()),
+                    new ListOf<>(new Write(4, true), new Read(), new Read())
+                )
+            ),
+            new Matches<>(new AtomicInteger())
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new IsLinearizable<AtomicInteger, Integer>(
+            0, new ListOf<>(new ListOf<>(new Read()), new ListOf<>(new Read()))
+        ).describeTo(desc);
+        new Assertion<>(
+            "must describe itself",
+            desc.toString(),
+            new IsEqual<>("linearizable history starting from <0>")
+        ).affirm();
+    }
+
+    @Test
+    void describesSmallestHistory() {
+        new Assertion<>(
+            "must show the write and the read that missed it",
+            () -> {
+                new Assertion<>(
+                    "must not match register that loses writes",
+                    new AtomicInteger(),
+                    new IsLinearizable<>(
+                        0,
+                        new ListOf<>(
+                            new ListOf<>(new Write(1, false), new Read()),
+                            new ListOf<>(new Read())
+                        )
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new ListOf<>(
+                        new StringContains(
+                            "but: history of <3> operations is not linearizable, nor its first <"
+                        ),
+                        new StringContains(": write(1) -> null ["),
+                        new StringContains(": read -> 0 [")
+                    )
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    /**
+     * Write to a register.
+     * @since 1.0.0
+     */
+    private static final class Write implements Operation<AtomicInteger, Integer> {
+
+        /**
+         * Value to write.
+         */
+        private final int value;
+
+        /**
+         * Whether to write it for real.
+         */
+        private final boolean atomic;
+
+        /**
+         * Ctor.
+         * @param value Value to write
+         * @param atomic Whether to write it for real
+         */
+        Write(final int value, final boolean atomic) {
+            this.value = value;
+            this.atomic = atomic;
+        }
+
+        @Override
+        public Object apply(final AtomicInteger object) {
+            if (this.atomic) {
+                object.set(this.value);
+            }
+            return null;
+        }
+
+        @Override
+        public Object expected(final Integer state) {
+            return null;
+        }
+
+        @Override
+        public Integer next(final Integer state) {
+            return this.value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("write(%d)", this.value);
+        }
+    }
+
+    /**
+     * Read from a register.
+     * @since 1.0.0
+     */
+    private static final class Read implements Operation<AtomicInteger, Integer> {
+
+        @Override
+        public Object apply(final AtomicInteger object) {
+            return object.get();
+        }
+
+        @Override
+        public Object expected(final Integer state) {
+            return state;
+        }
+
+        @Override
+        public Integer next(final Integer state) {
+            return state;
+        }
+
+        @Override
+        public String toString() {
+            return "read";
+        }
+    }
+}
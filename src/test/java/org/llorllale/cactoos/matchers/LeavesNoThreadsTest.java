@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.text.TextOf;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LeavesNoThreads}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class LeavesNoThreadsTest {
+
+    @Test
+    void matchesJoinedThread() {
+        new Assertion<>(
+            "must match when started threads terminate",
+            new LeavesNoThreads<>(new Object()),
+            new Matches<Func<Object, ?>>(
+                input -> {
+                    final Thread thread = new Thread(() -> { });
+                    thread.start();
+                    thread.join();
+                    return input;
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void waitsForShutdownPool() {
+        new Assertion<>(
+            "must wait for a shut down pool to terminate",
+            new LeavesNoThreads<>(new Object()),
+            new Matches<Func<Object, ?>>(
+                input -> {
+                    final ExecutorService pool =
+                        Executors.newSingleThreadExecutor();
+                    pool.submit(() -> input).get();
+                    pool.shutdown();
+                    return input;
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void ignoresDaemonThreads() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] started = new Thread[1];
+        new Assertion<>(
+            "must not count daemon threads",
+            new LeavesNoThreads<>(new Object(), 10L),
+            new Matches<Func<Object, ?>>(
+                input -> {
+                    started[0] = new Thread(
+                        () -> LeavesNoThreadsTest.awaited(latch)
+                    );
+                    started[0].setDaemon(true);
+                    started[0].start();
+                    return input;
+                }
+            )
+        ).affirm();
+        latch.countDown();
+        started[0].join();
+    }
+
+    @Test
+    void describesLeakedThread() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread thread = new Thread(
+            () -> LeavesNoThreadsTest.awaited(latch), "leaked-by-test"
+        );
+        try {
+            new Assertion<>(
+                "must describe the name and stack of the leaked thread",
+                () -> {
+                    new Assertion<>(
+                        "must leave no thread",
+                        (Func<Object, ?>) input -> {
+                            thread.start();
+                            return input;
+                        },
+                        new LeavesNoThreads<>(new Object(), 50L)
+                    ).affirm();
+                    return "discarded";
+                },
+                new Throws<>(
+                    new AllOf<>(
+                        new StringContains("but: leaked <1> threads:"),
+                        new StringContains("\"leaked-by-test\""),
+                        new StringContains("LeavesNoThreadsTest.awaited(")
+                    ),
+                    AssertionError.class
+                )
+            ).affirm();
+        } finally {
+            latch.countDown();
+            thread.join();
+        }
+    }
+
+    @Test
+    void describesGracePeriod() {
+        new Assertion<>(
+            "must describe the grace period",
+            new TextOf(
+                new StringDescription()
+                    .appendDescriptionOf(new LeavesNoThreads<>(new Object()))
+                    .toString()
+            ),
+            new StartsWith("leaves no threads running after <1000L>")
+        ).affirm();
+    }
+
+    /**
+     * Wait for a latch.
+     * @param latch The latch
+     */
+    private static void awaited(final CountDownLatch latch) {
+        try {
+            latch.await(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Linearizability}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class LinearizabilityTest {
+
+    @Test
+    void linearizesOverlappingCalls() throws Exception {
+        new Assertion<>(
+            "must order overlapping increments",
+            new Linearizability<AtomicInteger, Integer>(0).holds(
+                new ListOf<>(
+                    LinearizabilityTest.increment(0, 0L, 10L, 2),
+                    LinearizabilityTest.increment(1, 5L, 8L, 1)
+                )
+            ),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void respectsRealTimeOrder() throws Exception {
+        new Assertion<>(
+            "must not reorder increments that do not overlap",
+            new Linearizability<AtomicInteger, Integer>(0).holds(
+                new ListOf<>(
+                    LinearizabilityTest.increment(0, 0L, 4L, 2),
+                    LinearizabilityTest.increment(1, 5L, 8L, 1)
+                )
+            ),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void findsShortestPrefix() throws Exception {
+        final List<Call<AtomicInteger, Integer>> calls = new ListOf<>(
+            LinearizabilityTest.increment(0, 0L, 4L, 1),
+            LinearizabilityTest.increment(0, 10L, 20L, 2),
+            LinearizabilityTest.increment(1, 15L, 25L, 2),
+            LinearizabilityTest.increment(1, 30L, 40L, 3)
+        );
+        new Assertion<>(
+            "must stop after the lost update",
+            new Linearizability<AtomicInteger, Integer>(0).minimal(calls),
+            new IsEqual<>(calls.subList(0, 3))
+        ).affirm();
+    }
+
+    /**
+     * Call of {@code incrementAndGet()}.
+     * @param thread Index of the thread
+     * @param start Invocation time
+     * @param end Response time
+     * @param result Result of the call
+     * @return Call
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static Call<AtomicInteger, Integer> increment(
+        final int thread, final long start, final long end, final int result
+    ) {
+        return new Call<>(
+            thread,
+            new Operation<AtomicInteger, Integer>() {
+                @Override
+                public Object apply(final AtomicInteger object) {
+                    return object.incrementAndGet();
+                }
+
+                @Override
+                public Object expected(final Integer state) {
+                    return state + 1;
+                }
+
+                @Override
+                public Integer next(final Integer state) {
+                    return state + 1;
+                }
+            },
+            start,
+            end,
+            result
+        );
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MannWhitney}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class MannWhitneyTest {
+
+    @Test
+    void findsSmallerSampleSignificant() {
+        new Assertion<>(
+            "must find a sample that is always smaller significant",
+            new MannWhitney(
+                new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10},
+                new double[]{11, 12, 13, 14, 15, 16, 17, 18, 19, 20}
+            ).pvalue(),
+            new IsComparableLessThan<>(0.001)
+        ).affirm();
+    }
+
+    @Test
+    void findsOverlappingSamplesInsignificant() {
+        new Assertion<>(
+            "must not find interleaved samples significant",
+            new MannWhitney(
+                new double[]{1, 3, 5, 7, 9, 11, 13, 15, 17, 19},
+                new double[]{2, 4, 6, 8, 10, 12, 14, 16, 18, 20}
+            ).pvalue(),
+            new IsComparableGreaterThan<>(0.05)
+        ).affirm();
+    }
+
+    @Test
+    void findsLargerSampleInsignificant() {
+        new Assertion<>(
+            "must not find a sample that is always larger significant",
+            new MannWhitney(
+                new double[]{11, 12, 13, 14, 15, 16, 17, 18, 19, 20},
+                new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}
+            ).pvalue(),
+            new IsComparableGreaterThan<>(0.999)
+        ).affirm();
+    }
+}
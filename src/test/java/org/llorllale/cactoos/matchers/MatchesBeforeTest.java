@@ -27,7 +27,22 @@
 
 package org.llorllale.cactoos.matchers;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
 import org.cactoos.text.TextOf;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsAnything;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -71,21 +86,266 @@ final class MatchesBeforeTest {
     void mismatchesFromTimeout() {
         final String val = "c";
         new Assertion<>(
-            "Must fail because of timeout",
-            new MatchesBefore<>(10, new IsText(val)),
-            new Mismatches<>(
-                new TextOf(
-                    () -> {
-                        Thread.sleep(1000);
-                        return val;
+            "Must fail because of timeout, showing where it got stuck",
+            () -> {
+                new Assertion<>(
+                    "Must run in 10 milliseconds",
+                    new TextOf(
+                        () -> {
+                            Thread.sleep(1000);
+                            return val;
+                        }
+                    ),
+                    new MatchesBefore<>(10, new IsText(val))
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains(
+                        String.join(
+                            System.lineSeparator(),
+                            // @checkstyle LineLength (1 line)
+                            "Expected: Text with value \"c\" runs in less than <10L> milliseconds",
+                            "     but: Timeout after <10L> milliseconds, stuck in "
+                        )
+                    ),
+                    new StringContains("java.lang.Thread.sleep("),
+                    new StringContains(
+                        "MatchesBeforeTest.lambda$mismatchesFromTimeout"
+                    )
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void matchesWarmedUp() {
+        final AtomicInteger runs = new AtomicInteger(0);
+        new Assertion<>(
+            "Must match after warmup within the timing budget",
+            "fast",
+            new MatchesBefore<>(
+                1000, 100, 50,
+                new HasPercentile(0.5, 100L, TimeUnit.MILLISECONDS),
+                new Satisfies<>(str -> runs.incrementAndGet() > 0)
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must run the matcher for warmup and timed runs",
+            runs.get(),
+            new IsEqual<>(150)
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesFromTiming() {
+        new Assertion<>(
+            "Must fail because of timing, showing the distribution",
+            () -> {
+                new Assertion<>(
+                    "Must be fast",
+                    "slow",
+                    new MatchesBefore<>(
+                        1000, 1, 3,
+                        new HasPercentile(0.9, 1L, TimeUnit.MILLISECONDS),
+                        new Satisfies<>(
+                            str -> {
+                                Thread.sleep(2L);
+                                return true;
+                            }
+                        )
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: p90 <"),
+                    new StringContains("> was greater than <1000000L>"),
+                    new StringContains(" in count=3, min=")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void runsOncePerFailedAssertion() {
+        final AtomicInteger runs = new AtomicInteger(0);
+        new Assertion<>(
+            "Must fail because of timing",
+            () -> {
+                new Assertion<>(
+                    "Must never match the timing",
+                    "any",
+                    new MatchesBefore<>(
+                        1000, 2, 3,
+                        new IsNot<>(new IsAnything<>()),
+                        new Satisfies<>(str -> runs.incrementAndGet() > 0)
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(AssertionError.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not run again to describe the mismatch",
+            runs.get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    /**
+     * Sleeping threads take no CPU time.
+     */
+    @Test
+    void matchesCpuTime() {
+        new Assertion<>(
+            "Must time the CPU time instead of the wall clock time",
+            "sleepy",
+            new MatchesBefore<>(
+                1000, 0, 3, true,
+                new HasPercentile(0.9, 5L, TimeUnit.MILLISECONDS),
+                new Satisfies<>(
+                    str -> {
+                        Thread.sleep(20L);
+                        return true;
                     }
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesFromCpuTime() {
+        new Assertion<>(
+            "Must fail because of CPU time, showing wall clock time too",
+            () -> {
+                new Assertion<>(
+                    "Must take little CPU time",
+                    "busy",
+                    new MatchesBefore<>(
+                        1000, 0, 2, true,
+                        new HasPercentile(0.5, 1L, TimeUnit.MILLISECONDS),
+                        new Satisfies<>(
+                            str -> {
+                                final long start = System.nanoTime();
+                                long spins = 0L;
+                                while (System.nanoTime() - start < 5_000_000L) {
+                                    ++spins;
+                                }
+                                return spins > 0L;
+                            }
+                        )
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: CPU time p50 <"),
+                    new StringContains("> was greater than <1000000L>"),
+                    new StringContains(", wall clock time count=2, min=")
                 ),
-                "Text with value \"c\" runs in less than <10L> milliseconds",
-                "Timeout after <10L> milliseconds"
+                AssertionError.class
             )
         ).affirm();
     }
 
+    @Test
+    void describesWarmedUpMode() {
+        final Description desc = new StringDescription();
+        new MatchesBefore<>(
+            1000, 10, 20,
+            new HasPercentile(0.99, 1L, TimeUnit.MILLISECONDS),
+            new IsText("a")
+        ).describeTo(desc);
+        new Assertion<>(
+            "Must describe the warmup and the timing",
+            desc.toString(),
+            new IsEqual<>(
+                // @checkstyle LineLength (1 line)
+                "Text with value \"a\" runs in less than <1000L> milliseconds, timed <20> times after <10> warmup runs with p99 in nanoseconds a value less than or equal to <1000000L> when compared by <NaturalOrdering>"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void interruptsOnTimeout() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        new MatchesBefore<>(
+            10,
+            new Satisfies<>(
+                str -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (final InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                    return true;
+                }
+            )
+        ).matches("slow");
+        new Assertion<>(
+            "Must interrupt the evaluation after the timeout",
+            interrupted.await(1, TimeUnit.SECONDS),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void evaluatesInDaemonThread() {
+        final AtomicBoolean daemon = new AtomicBoolean();
+        new MatchesBefore<>(
+            1000,
+            new Satisfies<>(
+                str -> {
+                    daemon.set(Thread.currentThread().isDaemon());
+                    return true;
+                }
+            )
+        ).matches("any");
+        new Assertion<>(
+            "Must not prevent the JVM from exiting",
+            daemon.get(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    /**
+     * Evaluations share a pool, whose threads are started by the first
+     * evaluations and then reused.
+     */
+    @Test
+    void startsNoThreadPerEvaluation() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MatchesBeforeTest.evaluated(1000);
+        final long started = threads.getTotalStartedThreadCount();
+        MatchesBeforeTest.evaluated(1000);
+        new Assertion<>(
+            "Must not start a thread per evaluation",
+            threads.getTotalStartedThreadCount() - started,
+            new IsComparableLessThan<>(10L)
+        ).affirm();
+    }
+
+    /**
+     * Overhead of an evaluation, run with {@code mvn test -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    void evaluatesWithLittleOverhead() {
+        new Assertion<>(
+            "Must evaluate at least 5000 times per second",
+            (Func<Integer, Boolean>) value -> new MatchesBefore<>(
+                1000L, new IsEqual<>(value)
+            ).matches(value),
+            new RunsAtLeast<>(42, 5000.0, 500L, 1000L)
+        ).affirm();
+    }
+
     @Test
     void propagatesException() {
         new Assertion<>(
@@ -107,4 +367,14 @@ final class MatchesBeforeTest {
             new Throws<>(IllegalStateException.class)
         ).affirm();
     }
+
+    /**
+     * Evaluate trivial matchers one after the other.
+     * @param count Number of evaluations
+     */
+    private static void evaluated(final int count) {
+        for (int idx = 0; idx < count; ++idx) {
+            new MatchesBefore<>(1000L, new IsEqual<>(idx)).matches(idx);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Outperforms}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class OutperformsTest {
+
+    @Test
+    void matchesFasterCandidate() {
+        new Assertion<>(
+            "must match candidate that is much faster",
+            new Outperforms<>(OutperformsTest.sleeping(4L), 0, 0.2, 10, 10L),
+            new Matches<Func<Integer, ?>>(OutperformsTest.sleeping(1L))
+        ).affirm();
+    }
+
+    @Test
+    void reportsBothDistributions() {
+        new Assertion<>(
+            "must describe why the improvement is not significant",
+            () -> {
+                new Assertion<>(
+                    "must be faster",
+                    OutperformsTest.sleeping(1L),
+                    new Outperforms<>(
+                        OutperformsTest.sleeping(1L), 0, 0.2, 10, 10L
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: improvement of "),
+                    new StringContains(
+                        " in median time is not significant, p = "
+                    ),
+                    new StringContains(
+                        " in <10> batches of <1L> invocations; "
+                    ),
+                    new StringContains("; candidate count=10, min="),
+                    new StringContains("; baseline count=10, min=")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new Outperforms<>(input -> input, 0, 0.2).describeTo(desc);
+        new Assertion<>(
+            "must describe the required improvement",
+            desc.toString(),
+            new IsEqual<>(
+                "outperforms the baseline by at least 20.0% with p < <0.05>"
+            )
+        ).affirm();
+    }
+
+    /**
+     * Func that sleeps.
+     * @param millis How long, in milliseconds
+     * @return Func
+     */
+    private static Func<Integer, Integer> sleeping(final long millis) {
+        return input -> {
+            Thread.sleep(millis);
+            return input;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Perturbed}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+final class PerturbedTest {
+
+    @Test
+    void matchesThreadSafeFunc() {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Func<AtomicInteger, Boolean> func =
+            input -> input.incrementAndGet() > 0;
+        new Assertion<>(
+            "must match thread-safe func with perturbed threads",
+            new Perturbed<>(
+                new RunsInThreads<>(counter, 4, 100, new HasThroughput(0.0))
+            ),
+            new Matches<>(func)
+        ).affirm();
+        new Assertion<>(
+            "must invoke the func every time",
+            counter.get(),
+            new IsEqual<>(400)
+        ).affirm();
+    }
+
+    @Test
+    void reportsSeed() {
+        new Assertion<>(
+            "must report the seed of the perturbation",
+            () -> {
+                new Assertion<>(
+                    "must run successfuly",
+                    (Func<Object, Boolean>) input -> false,
+                    new Perturbed<>(42L, new RunsInThreads<>(new Object(), 2))
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains(
+                        "but: ran successfuly in <0> threads; 2 threads in "
+                    ),
+                    new StringContains(" (perturbation seed <42L>)")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RacesInThreads}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+final class RacesInThreadsTest {
+
+    @Test
+    void matchesAtomicActors() {
+        new Assertion<>(
+            "must match actors that never observe the same value",
+            new RacesInThreads<>(
+                AtomicInteger::new, 10_000,
+                new ForbidsOutcomes(new ListOf<>(1, 1), new ListOf<>(2, 2))
+            ),
+            new Matches<>(
+                new ListOf<Func<AtomicInteger, Object>>(
+                    AtomicInteger::incrementAndGet,
+                    AtomicInteger::incrementAndGet
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void runsEveryRaceOnFreshState() {
+        final AtomicInteger created = new AtomicInteger(0);
+        new RacesInThreads<>(
+            created::incrementAndGet, 2500,
+            new ForbidsOutcomes(new ListOf<>(0))
+        ).matches(new ListOf<Func<Integer, Object>>(input -> 0));
+        new Assertion<>(
+            "must create a state for every race",
+            created.get(),
+            new IsEqual<>(2500)
+        ).affirm();
+    }
+
+    @Test
+    void mismatchesForbiddenOutcome() {
+        new Assertion<>(
+            "must report the histogram of the outcomes",
+            new RacesInThreads<>(
+                Object::new, 10,
+                new ForbidsOutcomes(new ListOf<>("a", "b"))
+            ),
+            new Mismatches<>(
+                new ListOf<Func<Object, Object>>(input -> "a", input -> "b"),
+                "races <10> times with never <[a, b]>",
+                String.join(
+                    System.lineSeparator(),
+                    "observed <[a, b]> <10L> times in <10L> races:",
+                    "[a, b]: 10 (100.00%)"
+                )
+            )
+        ).affirm();
+    }
+}
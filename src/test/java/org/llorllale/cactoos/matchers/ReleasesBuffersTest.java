@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Func;
+import org.cactoos.text.TextOf;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.StringContains;
+import org.hamcrest.core.StringEndsWith;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ReleasesBuffers}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ReleasesBuffersTest {
+
+    @Test
+    void matchesUnreachableBuffer() {
+        new Assertion<>(
+            "must match when the buffer is garbage collected",
+            new ReleasesBuffers<>(1024),
+            new Matches<Func<Integer, ?>>(
+                size -> ByteBuffer.allocateDirect(size).capacity()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesLeakedBuffer() {
+        final List<ByteBuffer> leaked = new ArrayList<>(1);
+        new Assertion<>(
+            "must describe the leaked buffer",
+            () -> {
+                new Assertion<>(
+                    "must release the buffer",
+                    (Func<Integer, ?>) size -> leaked.add(
+                        ByteBuffer.allocateDirect(size)
+                    ),
+                    new ReleasesBuffers<>(1024, "direct", 0L, 0L, 1)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: leaked <1L> direct buffers, from "),
+                    new StringContains(
+                        " and <1024L> bytes of direct buffers, from "
+                    ),
+                    new StringEndsWith(" after <1> garbage collections")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesTolerance() {
+        new Assertion<>(
+            "must describe the tolerances",
+            new TextOf(
+                new StringDescription()
+                    .appendDescriptionOf(new ReleasesBuffers<>(new Object()))
+                    .toString()
+            ),
+            new StartsWith(
+                // @checkstyle LineLength (1 line)
+                "leaks at most <0L> direct buffers and at most <0L> bytes of direct buffers"
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Func;
+import org.cactoos.text.TextOf;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.hamcrest.core.StringEndsWith;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Releases}.
+ *
+ * @since 1.0.0
+ */
+final class ReleasesTest {
+
+    @Test
+    void matchesReleasedObject() {
+        final List<Object> registry = new ArrayList<>(0);
+        new Assertion<>(
+            "must match when the object is no longer referenced",
+            new Releases<>(
+                () -> {
+                    final Object object = new Object();
+                    registry.add(object);
+                    return object;
+                }
+            ),
+            new Matches<Func<Object, ?>>(registry::remove)
+        ).affirm();
+    }
+
+    @Test
+    void describesPathToLeakedObject() {
+        final List<Object> registry = new ArrayList<>(0);
+        new Assertion<>(
+            "must describe what still references the object",
+            () -> {
+                new Assertion<>(
+                    "must release the object",
+                    (Func<Object, ?>) registry::contains,
+                    new Releases<>(
+                        () -> {
+                            final Object object = new Object();
+                            registry.add(object);
+                            return object;
+                        },
+                        2
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains(
+                        "but: still reachable after <2> garbage collections, through:"
+                    ),
+                    new StringContains(".arg$1: java.util.ArrayList"),
+                    new StringContains(".elementData: java.lang.Object[]"),
+                    new StringEndsWith("[0]: java.lang.Object")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void createsObjectOncePerFunc() {
+        final List<Object> registry = new ArrayList<>(0);
+        new Assertion<>(
+            "must fail to release the registered object",
+            () -> {
+                new Assertion<>(
+                    "must release the object",
+                    (Func<Object, ?>) registry::contains,
+                    new Releases<>(
+                        () -> {
+                            final Object object = new Object();
+                            registry.add(object);
+                            return object;
+                        },
+                        2
+                    )
+                ).affirm();
+                return registry;
+            },
+            new Throws<>(AssertionError.class)
+        ).affirm();
+        new Assertion<>(
+            "must not create the object again to describe the mismatch",
+            registry.size(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void describesAttempts() {
+        new Assertion<>(
+            "must describe the garbage collections",
+            new TextOf(
+                new StringDescription()
+                    .appendDescriptionOf(new Releases<>(Object::new))
+                    .toString()
+            ),
+            new StartsWith(
+                "releases the object within <10> garbage collections"
+            )
+        ).affirm();
+    }
+}
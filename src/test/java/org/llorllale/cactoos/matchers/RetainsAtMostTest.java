@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.text.TextOf;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RetainsAtMost}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RetainsAtMostTest {
+
+    @Test
+    void matchesSmallGraph() {
+        new Assertion<>(
+            "must match an array within the budget",
+            new RetainsAtMost(9000L),
+            new Matches<>(new long[1000])
+        ).affirm();
+    }
+
+    @Test
+    void walksCollectionsOfJdk() {
+        final List<Object> list = new ArrayList<>(0);
+        for (int idx = 0; idx < 100; ++idx) {
+            list.add(new long[100]);
+        }
+        new Assertion<>(
+            "must count the elements of a list",
+            () -> {
+                new Assertion<>(
+                    "must retain little",
+                    list,
+                    new RetainsAtMost(80_000L)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: retained "),
+                    new StringContains(" bytes in 102 objects, "),
+                    new StringContains("long[]: ")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesGraphItMatched() {
+        final List<Object> list = new ArrayList<>(0);
+        list.add(new long[1000]);
+        final Matcher<Object> matcher = new RetainsAtMost(64L);
+        matcher.matches(list);
+        list.add(new long[1000]);
+        final Description desc = new StringDescription();
+        matcher.describeMismatch(list, desc);
+        new Assertion<>(
+            "must describe the graph it walked to match, not walk it again",
+            new TextOf(desc.toString()),
+            new HasString(" in 3 objects, ")
+        ).affirm();
+    }
+
+    @Test
+    void excludesClasses() {
+        final List<Object> list = new ArrayList<>(0);
+        list.add(new long[10_000]);
+        new Assertion<>(
+            "must not count instances of excluded classes",
+            new RetainsAtMost(1000L, long[].class),
+            new Matches<>(list)
+        ).affirm();
+    }
+
+    @Test
+    void countsCyclesOnce() {
+        final List<Object> list = new ArrayList<>(0);
+        list.add(list);
+        list.add(new long[1000]);
+        new Assertion<>(
+            "must count objects referred to twice once",
+            new RetainsAtMost(9000L),
+            new Matches<>(list)
+        ).affirm();
+    }
+
+    @Test
+    void describesBudget() {
+        new Assertion<>(
+            "must describe the budget",
+            new TextOf(
+                new StringDescription()
+                    .appendDescriptionOf(new RetainsAtMost(64L))
+                    .toString()
+            ),
+            new StartsWith("retains at most <64L> bytes")
+        ).affirm();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+import org.cactoos.func.FuncOf;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.hamcrest.core.StringEndsWith;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RunsAtLeast}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RunsAtLeastTest {
+
+    @Test
+    void matchesFastFunc() {
+        new Assertion<>(
+            "must match func faster than the minimum",
+            new RunsAtLeast<>(42, 1000.0, 50L, 100L),
+            new Matches<Func<Integer, ?>>(Integer::toBinaryString)
+        ).affirm();
+    }
+
+    @Test
+    void matchesFastScalar() {
+        final AtomicLong counter = new AtomicLong();
+        new Assertion<>(
+            "must match scalar faster than the minimum",
+            new RunsAtLeast<>(null, 1000.0, 50L, 100L),
+            new Matches<Func<Object, ?>>(new FuncOf<>(counter::incrementAndGet))
+        ).affirm();
+    }
+
+    @Test
+    void reportsConfidenceInterval() {
+        new Assertion<>(
+            "must describe the throughput of the samples",
+            () -> {
+                new Assertion<>(
+                    "must run fast",
+                    (Func<Object, ?>) input -> {
+                        Thread.sleep(1L);
+                        return input;
+                    },
+                    new RunsAtLeast<>(new Object(), 10_000.0, 10L, 100L)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: ran at "),
+                    new StringContains(
+                        " ops/s (95% confidence), samples from "
+                    ),
+                    new StringEndsWith(" ops/s in <10> samples of 10.000ms")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new RunsAtLeast<>(new Object(), 500_000.0).describeTo(desc);
+        new Assertion<>(
+            "must describe the minimum throughput",
+            desc.toString(),
+            new IsEqual<>("runs at least 500000.0 ops/s")
+        ).affirm();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.text.TextOf;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RunsAtRate}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+final class RunsAtRateTest {
+
+    @Test
+    void matchesFuncKeepingUp() {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Func<AtomicInteger, Boolean> func =
+            input -> input.incrementAndGet() > 0;
+        new Assertion<>(
+            "must match func that keeps up with the rate",
+            new RunsAtRate<>(
+                counter, 4, 1000.0, 200L,
+                new AllOf<>(
+                    new HasThroughput(500.0),
+                    new HasLatency(0.5, 50L, TimeUnit.MILLISECONDS)
+                )
+            ),
+            new Matches<>(func)
+        ).affirm();
+        new Assertion<>(
+            "must invoke the func once per interval",
+            counter.get(),
+            new IsEqual<>(200)
+        ).affirm();
+    }
+
+    /**
+     * Every invocation takes 10 ms while one is due every 1 ms, so they
+     * queue up, and the last ones wait for almost a second.
+     */
+    @Test
+    void countsQueuingInLatency() {
+        new Assertion<>(
+            "must measure latency from when invocations were due",
+            () -> {
+                new Assertion<>(
+                    "must keep up with the rate",
+                    (Func<Object, Boolean>) input -> {
+                        Thread.sleep(10L);
+                        return true;
+                    },
+                    new RunsAtRate<>(
+                        new Object(), 1, 1000.0, 100L,
+                        new HasLatency(0.99, 100L, TimeUnit.MILLISECONDS)
+                    )
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: latency p99 <"),
+                    new StringContains("> was greater than <100000000L>")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new RunsAtRate<>(
+            new Object(), 8, 20_000.0, 1000L, new HasThroughput(19_000.0)
+        ).describeTo(desc);
+        new Assertion<>(
+            "must describe the rate",
+            new TextOf(desc.toString()),
+            new StartsWith(
+                // @checkstyle LineLength (1 line)
+                "runs at 20000.0 ops/s for <1000L> milliseconds in <8> threads successfuly with "
+            )
+        ).affirm();
+    }
+}
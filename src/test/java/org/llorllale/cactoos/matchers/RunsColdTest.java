@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.Func;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RunsCold}.
+ *
+ * @since 1.0.0
+ */
+final class RunsColdTest {
+
+    @Test
+    void countsLoadedClasses() {
+        new Assertion<>(
+            "must count the classes the first invocation loads",
+            new RunsCold<>(
+                new Object(),
+                new HasLoadedClasses(new IsComparableGreaterThanOrEqualTo<>(1L))
+            ),
+            new Matches<Func<Object, ?>>(input -> new Fresh().loaded())
+        ).affirm();
+    }
+
+    @Test
+    void describesFirstInvocation() {
+        new Assertion<>(
+            "must describe the cost of the first invocation",
+            () -> {
+                new Assertion<>(
+                    "must load no class",
+                    (Func<Object, ?>) input -> new Fresh().loaded(),
+                    new RunsCold<>(new Object(), new HasLoadedClasses(0L))
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: loaded classes <"),
+                    new StringContains("> was greater than <0L>")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    /**
+     * Class loader that defines a class of its own every time, so that it
+     * is always loaded anew.
+     *
+     * @since 1.0.0
+     */
+    private static final class Fresh extends ClassLoader {
+
+        /**
+         * Ctor.
+         */
+        Fresh() {
+            super(RunsColdTest.class.getClassLoader());
+        }
+
+        /**
+         * Define a copy of {@link Loaded}.
+         * @return The class
+         * @throws Exception If its bytecode can't be read
+         */
+        Class<?> loaded() throws Exception {
+            final String name = Loaded.class.getName();
+            final byte[] code = new BytesOf(
+                new ResourceOf(
+                    String.format("%s.class", name.replace('.', '/'))
+                )
+            ).asBytes();
+            return this.defineClass(name, code, 0, code.length);
+        }
+    }
+
+    /**
+     * Class to load.
+     *
+     * @since 1.0.0
+     */
+    private static final class Loaded {
+    }
+}
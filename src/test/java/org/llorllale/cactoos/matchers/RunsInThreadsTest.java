@@ -26,17 +26,23 @@
  */
 package org.llorllale.cactoos.matchers;
 
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.Func;
 import org.cactoos.func.Repeated;
+import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.StringContains;
 import org.junit.jupiter.api.Test;
 
 /**
  * Test case for {@link RunsInThreads}.
  *
  * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
  * @checkstyle ClassDataAbstractionCoupling (2 lines)
  */
 final class RunsInThreadsTest {
@@ -73,11 +79,22 @@ final class RunsInThreadsTest {
         final int attempts = 100;
         new Assertion<>(
             "does not match Func that is not thread-safe",
-            new RunsInThreads<>(counter, threads),
-            new Mismatches<>(
-                new Repeated<>(new Unsafe(), attempts),
-                "runs in <20> threads successfuly",
-                "ran successfuly in <0> threads"
+            () -> {
+                new Assertion<>(
+                    "must run in all threads",
+                    new Repeated<>(new Unsafe(), attempts),
+                    new RunsInThreads<>(counter, threads)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains(
+                        "but: ran successfuly in <1> threads; 20 threads in "
+                    ),
+                    new StringContains(" ops/s, latency count=20, min=")
+                ),
+                AssertionError.class
             )
         ).affirm();
         new Assertion<>(
@@ -87,6 +104,131 @@ final class RunsInThreadsTest {
         ).affirm();
     }
 
+    /**
+     * Every thread invokes the safe function 100 times, which must all be
+     * timed.
+     */
+    @Test
+    void matchesStatistics() {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final int threads = 20;
+        final int attempts = 100;
+        new Assertion<>(
+            "matches the latency of the thread-safe Func",
+            new RunsInThreads<>(
+                counter, threads, attempts,
+                new HasLatency(0.99, 1L, TimeUnit.MINUTES)
+            ),
+            new Matches<>(new Safe())
+        ).affirm();
+        new Assertion<>(
+            "counter must be incremented by all invocations",
+            counter.get(),
+            new IsEqual<>(threads * attempts)
+        ).affirm();
+    }
+
+    /**
+     * The statistics of a run are not matched.
+     */
+    @Test
+    void mismatchesStatistics() {
+        new Assertion<>(
+            "does not match Func slower than the throughput",
+            new RunsInThreads<>(
+                new AtomicInteger(0), 2,
+                new HasThroughput(Double.MAX_VALUE)
+            ),
+            new IsNot<>(new Matches<>(new Safe()))
+        ).affirm();
+    }
+
+    /**
+     * Four threads sleep while holding the same lock, so all but one of
+     * them are blocked.
+     */
+    @Test
+    void measuresContention() {
+        final Object lock = new Object();
+        new Assertion<>(
+            "must measure the time the threads were blocked",
+            new RunsInThreads<>(
+                lock, 4,
+                new HasContention(new IsComparableGreaterThan<>(0.1))
+            ),
+            new Matches<>(
+                input -> {
+                    synchronized (input) {
+                        Thread.sleep(50L);
+                    }
+                    return true;
+                }
+            )
+        ).affirm();
+    }
+
+    /**
+     * Two threads take the same two locks in opposite order.
+     */
+    @Test
+    void describesDeadlock() {
+        new Assertion<>(
+            "must describe the deadlocked threads",
+            () -> {
+                new Assertion<>(
+                    "must not deadlock",
+                    new Deadlocking(),
+                    new RunsInThreads<>(new AtomicInteger(0), 2)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: deadlock of worker threads after "),
+                    new StringContains("BLOCKED on java.lang.Object@"),
+                    new StringContains("owned by \"pool-"),
+                    new StringContains("RunsInThreadsTest$Deadlocking.apply(")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    /**
+     * A thread does not finish before the timeout.
+     */
+    @Test
+    void describesTimeout() {
+        new Assertion<>(
+            "must describe the threads still running and the finished ones",
+            () -> {
+                new Assertion<>(
+                    "must finish in time",
+                    (Func<AtomicInteger, Boolean>) input -> {
+                        if (input.getAndIncrement() == 0) {
+                            Thread.sleep(10_000L);
+                        }
+                        return true;
+                    },
+                    new RunsInThreads<>(new AtomicInteger(0), 2, 200L)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: timeout after "),
+                    new StringContains("TIMED_WAITING"),
+                    new StringContains("java.lang.Thread.sleep("),
+                    new StringContains(
+                        "threads that finished: 1 threads in "
+                    ),
+                    new StringContains(" ops/s, latency count=1, min=")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
     /**
      * Guaranteed thread-safety.
      *
@@ -134,4 +276,47 @@ final class RunsInThreadsTest {
             return applies;
         }
     }
+
+    /**
+     * Guaranteed deadlock of two threads: the first one takes the locks in
+     * order, the second one in reverse order, and both wait for each other
+     * before taking the second lock.
+     *
+     * @since 1.0.0
+     */
+    private static class Deadlocking implements Func<AtomicInteger, Boolean> {
+        /**
+         * First lock.
+         */
+        private final Object first = new Object();
+
+        /**
+         * Second lock.
+         */
+        private final Object second = new Object();
+
+        /**
+         * Both threads hold their first lock.
+         */
+        private final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        @Override
+        public Boolean apply(final AtomicInteger input) throws Exception {
+            final Object outer;
+            final Object inner;
+            if (input.getAndIncrement() == 0) {
+                outer = this.first;
+                inner = this.second;
+            } else {
+                outer = this.second;
+                inner = this.first;
+            }
+            synchronized (outer) {
+                this.barrier.await();
+                synchronized (inner) {
+                    return true;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RunsWithGc}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RunsWithGcTest {
+
+    @Test
+    void countsCollections() {
+        new Assertion<>(
+            "must count the collections the func triggers",
+            new RunsWithGc<>(
+                new Object(),
+                new HasCollections(new IsComparableGreaterThanOrEqualTo<>(1L))
+            ),
+            new Matches<Func<Object, ?>>(
+                input -> {
+                    System.gc();
+                    return input;
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void ignoresCollectionsBeforeRun() {
+        System.gc();
+        new Assertion<>(
+            "must not time the collections that ended before the run",
+            new RunsWithGc<>(
+                new Object(), new HasMaxPause(0L, TimeUnit.NANOSECONDS)
+            ),
+            new Matches<Func<Object, ?>>(input -> input)
+        ).affirm();
+    }
+
+    @Test
+    void reportsCollections() {
+        new Assertion<>(
+            "must describe the collections",
+            () -> {
+                new Assertion<>(
+                    "must not collect garbage",
+                    (Func<Object, ?>) input -> {
+                        System.gc();
+                        return input;
+                    },
+                    new RunsWithGc<>(new Object(), new HasCollections(0L))
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new StringContains("but: collections <"),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+}
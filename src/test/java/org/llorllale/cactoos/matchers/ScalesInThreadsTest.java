@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import org.cactoos.Func;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ScalesInThreads}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+final class ScalesInThreadsTest {
+
+    /**
+     * Sleeping threads do not compete for anything, so they scale
+     * linearly even on a single processor.
+     */
+    @Test
+    void matchesScalableFunc() {
+        new Assertion<>(
+            "must match func that scales",
+            new ScalesInThreads<>(new Object(), 4, 0.7, 200L),
+            new Matches<>(
+                input -> {
+                    Thread.sleep(1L);
+                    return true;
+                }
+            )
+        ).affirm();
+    }
+
+    /**
+     * Threads sleeping while holding the same lock run one at a time.
+     */
+    @Test
+    void describesScalingCurve() {
+        new Assertion<>(
+            "must describe the scaling curve",
+            () -> {
+                new Assertion<>(
+                    "must scale",
+                    (Func<Object, Boolean>) input -> {
+                        synchronized (input) {
+                            Thread.sleep(1L);
+                        }
+                        return true;
+                    },
+                    new ScalesInThreads<>(new Object(), 3, 0.9, 200L)
+                ).affirm();
+                return "discarded";
+            },
+            new Throws<>(
+                new AllOf<>(
+                    new StringContains("but: scaled as"),
+                    new StringContains("1 threads: "),
+                    new StringContains("efficiency 1.00, 0 failed"),
+                    new StringContains("2 threads: ")
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new ScalesInThreads<>(new Object(), 8, 0.7).describeTo(desc);
+        new Assertion<>(
+            "must describe the expected scaling",
+            desc.toString(),
+            new IsEqual<>(
+                "scales up to <8> threads with parallel efficiency of at least <0.7>"
+            )
+        ).affirm();
+    }
+}
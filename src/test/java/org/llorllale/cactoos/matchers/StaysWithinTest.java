@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.text.MatchesPattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link StaysWithin}.
+ *
+ * @since 1.0.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class StaysWithinTest {
+
+    @Test
+    void matchesStableValue() {
+        final AtomicInteger samples = new AtomicInteger(0);
+        new Assertion<>(
+            "must match value that keeps matching",
+            new StaysWithin<>(100L, 10L, new IsComparableLessThan<>(1000)),
+            new Matches<Scalar<Integer>>(samples::incrementAndGet)
+        ).affirm();
+        new Assertion<>(
+            "must sample the value during the whole duration",
+            samples.get(),
+            new IsComparableGreaterThan<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void stopsAtFirstViolation() {
+        final AtomicInteger samples = new AtomicInteger(0);
+        new Assertion<>(
+            "must report the violation and the last samples",
+            () -> {
+                new Assertion<>(
+                    "must stay below 12",
+                    (Scalar<Integer>) samples::incrementAndGet,
+                    new StaysWithin<>(
+                        10_000L, 1L, new IsComparableLessThan<>(12)
+                    )
+                ).affirm();
+                return samples.get();
+            },
+            new Throws<>(
+                new MatchesPattern(
+                    Pattern.compile(
+                        String.join(
+                            "",
+                            "(?s).*but: <12> was .* at [^,]*,",
+                            " after <12L> samples from <1> to <12>,",
+                            " the last ones being <3> at [^,]*, <4> at .*",
+                            ", <12> at [^,]*"
+                        )
+                    )
+                ),
+                AssertionError.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void describesItself() {
+        final Description desc = new StringDescription();
+        new StaysWithin<>(30_000L, 100L, new IsEqual<>(0)).describeTo(desc);
+        new Assertion<>(
+            "must describe the duration and the period",
+            desc.toString(),
+            new IsEqual<>(
+                // @checkstyle LineLength (1 line)
+                "stays <0> for <30000L> milliseconds, sampled every <100L> milliseconds"
+            )
+        ).affirm();
+    }
+}
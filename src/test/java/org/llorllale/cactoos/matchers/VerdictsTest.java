@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) for portions of project cactoos-matchers are held by
+ * Yegor Bugayenko, 2017-2018, as part of project cactoos.
+ * All other copyright for project cactoos-matchers are held by
+ * George Aristy, 2018-2020.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.llorllale.cactoos.matchers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Verdicts}.
+ *
+ * @since 1.0.0
+ */
+final class VerdictsTest {
+
+    @Test
+    void describesMismatchOfFailedCheck() {
+        final AtomicInteger checks = new AtomicInteger();
+        final Verdicts<Integer> verdicts = VerdictsTest.odd(checks);
+        verdicts.matches(3, new Description.NullDescription());
+        final Description desc = new StringDescription();
+        verdicts.matches(3, desc);
+        new Assertion<>(
+            "must describe the mismatch of the check that failed",
+            desc.toString(),
+            new IsEqual<>("<3> is odd after <1> checks")
+        ).affirm();
+    }
+
+    @Test
+    void checksAgainOnNextMatch() {
+        final AtomicInteger checks = new AtomicInteger();
+        final Verdicts<Integer> verdicts = VerdictsTest.odd(checks);
+        verdicts.matches(3, new Description.NullDescription());
+        verdicts.matches(3, new Description.NullDescription());
+        new Assertion<>(
+            "must check the item again when it is matched again",
+            checks.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsDescribedVerdict() {
+        final AtomicInteger checks = new AtomicInteger();
+        final Verdicts<Integer> verdicts = VerdictsTest.odd(checks);
+        verdicts.matches(3, new Description.NullDescription());
+        verdicts.matches(3, new StringDescription());
+        verdicts.matches(3, new StringDescription());
+        new Assertion<>(
+            "must check the item again once its mismatch is described",
+            checks.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    /**
+     * Verdicts of a check that even numbers pass.
+     * @param checks Number of checks so far
+     * @return Verdicts
+     */
+    private static Verdicts<Integer> odd(final AtomicInteger checks) {
+        return new Verdicts<>(
+            (Integer item, Description desc) -> {
+                final int count = checks.incrementAndGet();
+                desc.appendValue(item)
+                    .appendText(" is odd after ")
+                    .appendValue(count)
+                    .appendText(" checks");
+                return item % 2 == 0;
+            }
+        );
+    }
+}